@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.HashMap;
+
+/**
+ * Fuzzy pinyin matching, for users who do not tell apart some initials or
+ * finals, as is common in southern accents: with {@link #S_SH}, "SEN"
+ * matches 沈 (SHEN/CHEN).
+ *
+ * For each syllable, the set of syllables it is confused with under the
+ * chosen rules is computed once, as a bitset over the syllable ids (see
+ * {@link PinyinHelper#getSyllableId}). A match is then one bit test per
+ * reading, whatever the rules, so fuzzy search costs as much as exact
+ * search; no syllable is rewritten at query time.
+ *
+ * Immutable and safe to share between threads.
+ */
+public final class FuzzyPinyin {
+
+    /**
+     * Initials Z and ZH.
+     */
+    public static final int Z_ZH = 1;
+    /**
+     * Initials C and CH.
+     */
+    public static final int C_CH = 1 << 1;
+    /**
+     * Initials S and SH.
+     */
+    public static final int S_SH = 1 << 2;
+    /**
+     * Initials N and L.
+     */
+    public static final int N_L = 1 << 3;
+    /**
+     * Finals AN and ANG, also IAN/IANG and UAN/UANG.
+     */
+    public static final int AN_ANG = 1 << 4;
+    /**
+     * Finals EN and ENG.
+     */
+    public static final int EN_ENG = 1 << 5;
+    /**
+     * Finals IN and ING.
+     */
+    public static final int IN_ING = 1 << 6;
+    /**
+     * All of the above.
+     */
+    public static final int ALL = (1 << 7) - 1;
+
+    private final int mRules;
+    // Longs per syllable set.
+    private final int mWords;
+    // Set of syllable id i is mSets[i * mWords, (i + 1) * mWords).
+    private final long[] mSets;
+    // Index of the first syllable of each fuzzy key, to look up typed
+    // syllables that are not syllables themselves.
+    private final HashMap<String, Integer> mKeys = new HashMap<String, Integer>();
+
+    /**
+     * @param rules the confusions to accept, any combination of the rule
+     *        constants; 0 for exact matching
+     */
+    public FuzzyPinyin(int rules) {
+        if ((rules & ~ALL) != 0) {
+            throw new IllegalArgumentException("rules " + rules);
+        }
+        mRules = rules;
+        final int count = SyllablePool.size();
+        mWords = (count + 63) >>> 6;
+        mSets = new long[count * mWords];
+        int[] first = new int[count];
+        for (int id = 0; id < count; id++) {
+            String key = fuzzyKey(SyllablePool.get(id), rules);
+            Integer group = mKeys.get(key);
+            if (group == null) {
+                group = id;
+                mKeys.put(key, group);
+            }
+            first[id] = group;
+            mSets[group * mWords + (id >>> 6)] |= 1L << id;
+        }
+        for (int id = 0; id < count; id++) {
+            if (first[id] != id) {
+                System.arraycopy(mSets, first[id] * mWords, mSets, id * mWords, mWords);
+            }
+        }
+    }
+
+    /**
+     * The syllable with every confusion of the rules folded into one form:
+     * ZH to Z, CH to C, SH to S and L to N at the start, ANG to AN, ENG to
+     * EN and ING to IN at the end.
+     */
+    static String fuzzyKey(String syllable, int rules) {
+        String key = syllable;
+        if ((rules & Z_ZH) != 0 && key.startsWith("ZH")
+                || (rules & C_CH) != 0 && key.startsWith("CH")
+                || (rules & S_SH) != 0 && key.startsWith("SH")) {
+            key = key.charAt(0) + key.substring(2);
+        } else if ((rules & N_L) != 0 && key.startsWith("L")) {
+            key = "N" + key.substring(1);
+        }
+        if ((rules & AN_ANG) != 0 && key.endsWith("ANG")
+                || (rules & EN_ENG) != 0 && key.endsWith("ENG")
+                || (rules & IN_ING) != 0 && key.endsWith("ING")) {
+            key = key.substring(0, key.length() - 1);
+        }
+        return key;
+    }
+
+    public int getRules() {
+        return mRules;
+    }
+
+    /**
+     * Whether two syllables are the same under the rules.
+     */
+    public boolean isEquivalent(int syllableId, int otherId) {
+        return (mSets[syllableId * mWords + (otherId >>> 6)] & (1L << otherId)) != 0;
+    }
+
+    /**
+     * The syllables a typed syllable stands for under the rules, as a
+     * bitset over syllable ids: bit {@code id & 63} of word {@code id >>> 6}.
+     * The typed syllable need not be a syllable itself, only equivalent to
+     * one, e.g. "ZONG" is only a fuzzy form of ZHONG. Compute it once per
+     * query and test readings with {@link #contains}.
+     *
+     * @param syllable uppercase, U+00FC written as V
+     * @return a new bitset, or null if no syllable is equivalent
+     */
+    public long[] getEquivalents(String syllable) {
+        Integer group = mKeys.get(fuzzyKey(syllable, mRules));
+        if (group == null) {
+            return null;
+        }
+        long[] set = new long[mWords];
+        System.arraycopy(mSets, group * mWords, set, 0, mWords);
+        return set;
+    }
+
+    /**
+     * Whether the bitset holds the syllable of a packed reading or id.
+     */
+    public static boolean contains(long[] equivalents, int reading) {
+        int id = reading & PinyinReading.ID_MASK;
+        return (equivalents[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Whether any reading of a char is in the bitset: any polyphony reading
+     * of a polyphonic char, else the reading of
+     * {@link PinyinHelper#getPinyin(int)}.
+     */
+    public boolean matches(long[] equivalents, char c) {
+        return matches(equivalents, c, PinyinHelper.polyphonyTable());
+    }
+
+    private static boolean matches(long[] equivalents, char c, PolyphonyTable table) {
+        int packed = table.getPacked(c);
+        int count = packed & PolyphonyTable.COUNT_MASK;
+        if (count == 0) {
+            int reading = PinyinHelper.getPinyinReading(c);
+            return reading >= 0 && contains(equivalents, reading);
+        }
+        for (int k = 0; k < count; k++) {
+            if (contains(equivalents, table.syllableId(packed, k))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compute the bitsets of typed syllables, see {@link #getEquivalents}.
+     *
+     * @return the bitsets, or null if a syllable has no equivalent
+     */
+    public long[][] compile(String... syllables) {
+        long[][] query = new long[syllables.length][];
+        for (int i = 0; i < syllables.length; i++) {
+            query[i] = getEquivalents(syllables[i]);
+            if (query[i] == null) {
+                return null;
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Find the first run of chars of the text that match the compiled
+     * syllables one by one: "SHEN", "LE" finds 沈乐 in 小沈乐.
+     *
+     * @return the index of the run, or -1 if there is none
+     */
+    public int indexOf(long[][] query, CharSequence text) {
+        final PolyphonyTable table = PinyinHelper.polyphonyTable();
+        final int last = text.length() - query.length;
+        for (int start = 0; start <= last; start++) {
+            int k = 0;
+            while (k < query.length && matches(query[k], text.charAt(start + k), table)) {
+                k++;
+            }
+            if (k == query.length) {
+                return start;
+            }
+        }
+        return -1;
+    }
+}
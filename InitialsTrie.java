@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie over the pinyin initials of a list of names, for as-you-type search.
+ *
+ * Each name is inserted once per initials key of {@link SearchKeyIndex},
+ * so a polyphonic char becomes several branches and a name matches under
+ * any of its readings; 沈 (SHEN/CHEN) matches both "S" and "C". Nodes are
+ * laid out in depth-first order and the name ids under a node form one
+ * contiguous range, so the matches of a prefix are read without walking
+ * its subtree. A {@link Cursor} keeps the node of the typed prefix, so
+ * each keystroke costs one child lookup.
+ *
+ * The trie is immutable and can be shared by threads; cursors are not
+ * thread safe.
+ */
+public final class InitialsTrie {
+
+    private static final int ROOT = 0;
+
+    private final int mNameCount;
+    // Children of node n are mLabels/mTargets[mFirstChild[n], mFirstChild[n + 1]),
+    // sorted by label.
+    private final int[] mFirstChild;
+    private final char[] mLabels;
+    private final int[] mTargets;
+    // Names under node n are mPostings[mPostingStart[n], mPostingEnd[n]),
+    // a name may be listed more than once.
+    private final int[] mPostingStart;
+    private final int[] mPostingEnd;
+    private final int[] mPostings;
+
+    /**
+     * Build the trie of the names, with the default combination cap of
+     * {@link SearchKeyIndex}.
+     */
+    public static InitialsTrie build(List<? extends CharSequence> names) {
+        return new InitialsTrie(SearchKeyIndex.build(names));
+    }
+
+    /**
+     * Build the trie of names whose keys are already in an index.
+     */
+    public InitialsTrie(SearchKeyIndex index) {
+        mNameCount = index.size();
+        Builder builder = new Builder();
+        for (int i = 0; i < mNameCount; i++) {
+            for (String key : index.getInitialsKeys(i)) {
+                builder.insert(key, i);
+            }
+        }
+        int nodeCount = builder.mNodeCount;
+        mFirstChild = new int[nodeCount + 1];
+        mLabels = new char[nodeCount - 1];
+        mTargets = new int[nodeCount - 1];
+        mPostingStart = new int[nodeCount];
+        mPostingEnd = new int[nodeCount];
+        mPostings = new int[builder.mPostingCount];
+        layout(builder, ROOT, new int[3]);
+        mFirstChild[nodeCount] = nodeCount - 1;
+    }
+
+    /**
+     * Copy builder node {@code node} and its subtree in preorder, so the
+     * edges and postings of node n follow those of node n - 1. next[0] is
+     * the next free node id, next[1] the next free edge and next[2] the
+     * next free posting.
+     *
+     * @return the id of the node
+     */
+    private int layout(Builder builder, int node, int[] next) {
+        int id = next[0]++;
+        mPostingStart[id] = next[2];
+        int[] postings = builder.mPostings[node];
+        for (int k = 0; k < builder.mPostingSizes[node]; k++) {
+            mPostings[next[2]++] = postings[k];
+        }
+        int childCount = builder.mChildCounts[node];
+        char[] labels = builder.mLabels[node];
+        int[] children = builder.mChildren[node];
+        int firstEdge = next[1];
+        mFirstChild[id] = firstEdge;
+        next[1] += childCount;
+        for (int k = 0; k < childCount; k++) {
+            mLabels[firstEdge + k] = labels[k];
+            mTargets[firstEdge + k] = layout(builder, children[k], next);
+        }
+        mPostingEnd[id] = next[2];
+        return id;
+    }
+
+    /**
+     * Number of names the trie was built from.
+     */
+    public int getNameCount() {
+        return mNameCount;
+    }
+
+    public Cursor newCursor() {
+        return new Cursor();
+    }
+
+    private int child(int node, char label) {
+        int start = mFirstChild[node];
+        int index = Arrays.binarySearch(mLabels, start, mFirstChild[node + 1], label);
+        return index < 0 ? -1 : mTargets[index];
+    }
+
+    /**
+     * The position of a typed prefix in the trie.
+     */
+    public final class Cursor {
+        // Node after each typed char; the prefix has no match once it
+        // passes mMatchedLength.
+        private int[] mPath = new int[16];
+        private int mLength;
+        private int mMatchedLength;
+        // mSeen[name] == mGeneration if the name was already reported.
+        private int[] mSeen;
+        private int mGeneration;
+
+        private Cursor() {
+            mPath[0] = ROOT;
+        }
+
+        /**
+         * Type one more char, letters match case-insensitively.
+         *
+         * @return true if some name still matches
+         */
+        public boolean append(char c) {
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            if (mLength + 1 == mPath.length) {
+                mPath = Arrays.copyOf(mPath, mPath.length * 2);
+            }
+            mLength++;
+            if (mMatchedLength == mLength - 1) {
+                int node = child(mPath[mMatchedLength], c);
+                if (node >= 0) {
+                    mPath[++mMatchedLength] = node;
+                }
+            }
+            return hasMatches();
+        }
+
+        /**
+         * Remove the last typed char, if any.
+         */
+        public void backspace() {
+            if (mLength > 0) {
+                if (mMatchedLength == mLength) {
+                    mMatchedLength--;
+                }
+                mLength--;
+            }
+        }
+
+        public void reset() {
+            mLength = 0;
+            mMatchedLength = 0;
+        }
+
+        /**
+         * Number of chars typed so far.
+         */
+        public int length() {
+            return mLength;
+        }
+
+        public boolean hasMatches() {
+            if (mMatchedLength != mLength) {
+                return false;
+            }
+            int node = mPath[mMatchedLength];
+            return mPostingStart[node] != mPostingEnd[node];
+        }
+
+        /**
+         * Write the ids, i.e. list indices, of the matching names into
+         * {@code dst} in trie order, each name once.
+         *
+         * @param dst must have room for {@link #getNameCount()} ids
+         * @return the number of names written
+         */
+        public int getMatches(int[] dst) {
+            if (mMatchedLength != mLength) {
+                return 0;
+            }
+            if (mSeen == null) {
+                mSeen = new int[mNameCount];
+            }
+            if (++mGeneration == 0) {
+                Arrays.fill(mSeen, 0);
+                mGeneration = 1;
+            }
+            int node = mPath[mMatchedLength];
+            int count = 0;
+            for (int k = mPostingStart[node]; k < mPostingEnd[node]; k++) {
+                int name = mPostings[k];
+                if (mSeen[name] != mGeneration) {
+                    mSeen[name] = mGeneration;
+                    dst[count++] = name;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Trie used while building, with the names under each node.
+     */
+    private static final class Builder extends TrieBuilder {
+        int[][] mPostings = new int[INITIAL_CAPACITY][];
+        int[] mPostingSizes = new int[INITIAL_CAPACITY];
+        int mPostingCount;
+
+        void insert(String key, int name) {
+            int node = add(key);
+            int size = mPostingSizes[node];
+            if (mPostings[node] == null) {
+                mPostings[node] = new int[2];
+            } else if (size == mPostings[node].length) {
+                mPostings[node] = Arrays.copyOf(mPostings[node], size * 2);
+            }
+            mPostings[node][size] = name;
+            mPostingSizes[node] = size + 1;
+            mPostingCount++;
+        }
+
+        @Override
+        void growNodes(int capacity) {
+            mPostings = Arrays.copyOf(mPostings, capacity);
+            mPostingSizes = Arrays.copyOf(mPostingSizes, capacity);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * All reading combinations of a full Chinese name, see
+ * {@link PinyinHelper#getNameReadings(CharSequence)}.
+ *
+ * Only the readings of each char are kept; combinations are enumerated on
+ * demand, so a name with many polyphonic chars costs no more memory than
+ * a name with one. A combination is a String[] as long as the name, where
+ * an entry is null if the char has not polyphony, so the caller can fill
+ * in its own reading.
+ *
+ * Each reading has a weight, its relative frequency for that char (see
+ * {@link PinyinHelper#getPolyphonyWeights}); {@link #getTopReadings}
+ * returns the most likely combinations first.
+ */
+public final class NameReadings implements Iterable<String[]> {
+
+    private final String mName;
+    // Candidate readings of each char, null if the char has not polyphony.
+    private final String[][] mChoices;
+    // Weights of the candidate readings, null where mChoices is.
+    private final int[][] mWeights;
+    private final int mSurnameLength;
+
+    NameReadings(CharSequence name) {
+        mName = name.toString();
+        final int length = mName.length();
+        mChoices = new String[length][];
+        mWeights = new int[length][];
+        // Read all chars from the same tables.
+        final PolyphonySnapshot snapshot = PinyinHelper.getSnapshot();
+        String[][] compound = PinyinHelper.getCompoundSurname(mName);
+        int start = 0;
+        if (compound != null) {
+            for (int i = 0; i < 2; i++) {
+                mChoices[i] = compound[i];
+                if (compound[i] != null) {
+                    mWeights[i] = new int[] { 1 };
+                }
+            }
+            start = 2;
+        }
+        mSurnameLength = compound != null ? 2 : Math.min(length, 1);
+        for (int i = start; i < length; i++) {
+            setChoices(i, tableAt(snapshot, mName, i));
+        }
+    }
+
+    /**
+     * Write the most likely reading combination of the name into dst, the
+     * first of {@link #getTopReadings}: the heaviest reading of each char,
+     * found without building the readings of the name.
+     *
+     * @param dst must have room for {@code name.length()} entries
+     */
+    static void resolveHeaviest(CharSequence name, String[] dst) {
+        final int length = name.length();
+        final PolyphonySnapshot snapshot = PinyinHelper.getSnapshot();
+        String[][] compound = PinyinHelper.getCompoundSurname(name);
+        int start = 0;
+        if (compound != null) {
+            for (int i = 0; i < 2; i++) {
+                dst[i] = compound[i] != null ? compound[i][0] : null;
+            }
+            start = 2;
+        }
+        for (int i = start; i < length; i++) {
+            dst[i] = tableAt(snapshot, name, i).getPreferred(name.charAt(i));
+        }
+    }
+
+    /**
+     * The table the char at {@code index} of a name without a compound
+     * surname is read from: the family name table for the first char, if
+     * it has that char, the polyphony table otherwise.
+     */
+    static PolyphonyTable tableAt(PolyphonySnapshot snapshot, CharSequence name, int index) {
+        if (index == 0) {
+            PolyphonyTable familyName = snapshot.familyNameTable();
+            if (familyName.contains(name.charAt(0))) {
+                return familyName;
+            }
+        }
+        return snapshot.polyphonyTable();
+    }
+
+    private void setChoices(int index, PolyphonyTable table) {
+        int set = table.setOf(mName.charAt(index));
+        if (set == 0) {
+            return;
+        }
+        mChoices[index] = table.readingsOf(set);
+        int packed = table.packedOf(set);
+        int[] weights = new int[packed & PolyphonyTable.COUNT_MASK];
+        for (int k = 0; k < weights.length; k++) {
+            weights[k] = table.weight(packed, k);
+        }
+        mWeights[index] = weights;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * Number of chars of the name that are read as the surname, 2 for a
+     * compound surname.
+     */
+    public int getSurnameLength() {
+        return mSurnameLength;
+    }
+
+    /**
+     * Candidate readings of the char at {@code index}, or null if it has not
+     * polyphony. Do not modify the returned array.
+     */
+    public String[] getReadings(int index) {
+        return mChoices[index];
+    }
+
+    /**
+     * Weights of the candidate readings of the char at {@code index}, in
+     * the order of {@link #getReadings}, or null if it has not polyphony.
+     * Do not modify the returned array.
+     */
+    public int[] getWeights(int index) {
+        return mWeights[index];
+    }
+
+    /**
+     * Number of reading combinations, Long.MAX_VALUE if there are more.
+     */
+    public long getCombinationCount() {
+        long count = 1;
+        for (String[] choices : mChoices) {
+            if (choices != null) {
+                if (count > Long.MAX_VALUE / choices.length) {
+                    return Long.MAX_VALUE;
+                }
+                count *= choices.length;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Iterates all reading combinations, the first one uses the first reading
+     * of every char. Each call to next() returns a new array.
+     */
+    @Override
+    public Iterator<String[]> iterator() {
+        return new Iterator<String[]>() {
+            // Reading index of each char, counted like an odometer with the
+            // last char moving fastest.
+            private final int[] mIndices = new int[mChoices.length];
+            private boolean mHasNext = true;
+
+            @Override
+            public boolean hasNext() {
+                return mHasNext;
+            }
+
+            @Override
+            public String[] next() {
+                if (!mHasNext) {
+                    throw new NoSuchElementException();
+                }
+                final int length = mChoices.length;
+                String[] combination = new String[length];
+                for (int i = 0; i < length; i++) {
+                    String[] choices = mChoices[i];
+                    if (choices != null) {
+                        combination[i] = choices[mIndices[i]];
+                    }
+                }
+                if (PinyinMetrics.sEnabled) {
+                    PinyinMetrics.recordCombination();
+                }
+                mHasNext = false;
+                for (int i = length - 1; i >= 0; i--) {
+                    String[] choices = mChoices[i];
+                    if (choices == null) {
+                        continue;
+                    }
+                    if (++mIndices[i] < choices.length) {
+                        mHasNext = true;
+                        break;
+                    }
+                    mIndices[i] = 0;
+                }
+                return combination;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * The {@code k} most likely reading combinations, most likely first,
+     * or all of them if there are fewer. The likelihood of a combination is
+     * the product of the weights of its readings, each relative to the
+     * weights of its char. It is compared in fixed point, so combinations
+     * whose likelihoods differ by less than about one in a million may come
+     * in either order; where the fixed point costs are equal, heavier
+     * readings of earlier chars come first.
+     *
+     * Combinations are enumerated best first from the combination of the
+     * heaviest readings, so the cost grows with {@code k} and the number
+     * of polyphonic chars, not with {@link #getCombinationCount()}.
+     */
+    public List<String[]> getTopReadings(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k " + k);
+        }
+        // The polyphonic chars, and for each its readings by weight, heaviest
+        // first, with their costs: -log of their share of the weights, in
+        // fixed point so that sums are exact and do not depend on the order
+        // of the additions.
+        final int length = mChoices.length;
+        int[] positions = new int[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (mChoices[i] != null) {
+                positions[count++] = i;
+            }
+        }
+        int[][] order = new int[count][];
+        long[][] costs = new long[count][];
+        for (int p = 0; p < count; p++) {
+            int[] weights = mWeights[positions[p]];
+            order[p] = byWeight(weights);
+            long total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            costs[p] = new long[weights.length];
+            for (int r = 0; r < weights.length; r++) {
+                costs[p][r] = Math.round(-Math.log((double) weights[order[p][r]] / total)
+                        * COST_SCALE);
+            }
+        }
+
+        // The chars with more than one reading, by the extra cost of their
+        // second reading, cheapest first; later chars first among equals.
+        long[] keys = new long[count];
+        int movable = 0;
+        for (int p = 0; p < count; p++) {
+            if (order[p].length > 1) {
+                keys[movable++] = (costs[p][1] - costs[p][0]) << 32 | (Integer.MAX_VALUE - p);
+            }
+        }
+        Arrays.sort(keys, 0, movable);
+        int[] moves = new int[movable];
+        for (int m = 0; m < movable; m++) {
+            moves[m] = Integer.MAX_VALUE - (int) keys[m];
+        }
+
+        // A candidate is a rank per polyphonic char; past its last move, all
+        // chars of moves are at rank 0. It has at most three children: the
+        // next rank of its last move, the second reading of the next move,
+        // and, if its last move is at rank 1, that move handed over to the
+        // next one. So each candidate is reached from one parent only, the
+        // queue grows by at most three per combination returned, and a
+        // child never sorts before its parent.
+        List<String[]> top = new ArrayList<String[]>(Math.min(k, 64));
+        PriorityQueue<Candidate> queue = new PriorityQueue<Candidate>(11, CANDIDATE_ORDER);
+        if (k > 0) {
+            long cost = 0;
+            for (int p = 0; p < count; p++) {
+                cost += costs[p][0];
+            }
+            queue.add(new Candidate(new int[count], -1, cost));
+        }
+        while (!queue.isEmpty()) {
+            Candidate best = queue.poll();
+            String[] combination = new String[length];
+            for (int p = 0; p < count; p++) {
+                int i = positions[p];
+                combination[i] = mChoices[i][order[p][best.mRanks[p]]];
+            }
+            top.add(combination);
+            if (top.size() == k) {
+                break;
+            }
+            int last = best.mLast;
+            if (last >= 0) {
+                int p = moves[last];
+                int rank = best.mRanks[p];
+                if (rank + 1 < order[p].length) {
+                    int[] ranks = best.mRanks.clone();
+                    ranks[p]++;
+                    queue.add(new Candidate(ranks, last, best.mCost
+                            + costs[p][rank + 1] - costs[p][rank]));
+                }
+            }
+            if (last + 1 < movable) {
+                int next = moves[last + 1];
+                long extra = costs[next][1] - costs[next][0];
+                int[] ranks = best.mRanks.clone();
+                ranks[next] = 1;
+                queue.add(new Candidate(ranks, last + 1, best.mCost + extra));
+                if (last >= 0 && best.mRanks[moves[last]] == 1) {
+                    int p = moves[last];
+                    ranks = best.mRanks.clone();
+                    ranks[p] = 0;
+                    ranks[next] = 1;
+                    queue.add(new Candidate(ranks, last + 1, best.mCost + extra
+                            - (costs[p][1] - costs[p][0])));
+                }
+            }
+        }
+        if (PinyinMetrics.sEnabled) {
+            for (int i = 0; i < top.size(); i++) {
+                PinyinMetrics.recordCombination();
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Indices of the weights, heaviest first, in listed order among equals.
+     */
+    private static int[] byWeight(int[] weights) {
+        int[] order = new int[weights.length];
+        for (int r = 0; r < order.length; r++) {
+            int index = r;
+            while (index > 0 && weights[order[index - 1]] < weights[r]) {
+                order[index] = order[index - 1];
+                index--;
+            }
+            order[index] = r;
+        }
+        return order;
+    }
+
+    // Fixed point scale of reading costs. A cost is at most ln(7 * 65535),
+    // about 13, so a sum over a million chars still fits a long. Each cost
+    // is rounded on its own, so combinations with equal products need not
+    // have equal sums: a sum is off by at most half a unit per char, and
+    // combinations that close are ordered by rounding rather than by the
+    // ranks of CANDIDATE_ORDER.
+    private static final double COST_SCALE = 1 << 20;
+
+    private static final class Candidate {
+        // Rank, in order of weight, of the reading of each polyphonic char.
+        final int[] mRanks;
+        // Index in moves of the last char moved to reach this candidate, -1
+        // for the heaviest combination.
+        final int mLast;
+        final long mCost;
+
+        Candidate(int[] ranks, int last, long cost) {
+            mRanks = ranks;
+            mLast = last;
+            mCost = cost;
+        }
+    }
+
+    // Cheapest first, then in the order of the ranks, for a stable result.
+    private static final Comparator<Candidate> CANDIDATE_ORDER = new Comparator<Candidate>() {
+        @Override
+        public int compare(Candidate a, Candidate b) {
+            int result = Long.compare(a.mCost, b.mCost);
+            for (int p = 0; result == 0 && p < a.mRanks.length; p++) {
+                result = a.mRanks[p] - b.mRanks[p];
+            }
+            return result;
+        }
+    };
+
+    @Override
+    public String toString() {
+        return mName;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Words that fix the readings of their polyphonic chars, such as 银行 (YIN
+ * HANG) and 行走 (XING ZOU), matched with an Aho-Corasick automaton.
+ *
+ * {@link #resolve} finds every word of a text in one pass, however many
+ * words overlap, and picks one reading per polyphonic char: the one of the
+ * longest word covering it, or of the leftmost if several are as long.
+ * Chars outside any word take their heaviest reading from the char table.
+ *
+ * The automaton is laid out breadth first in flat arrays; it is immutable
+ * and can be shared by threads.
+ */
+final class PhraseDictionary {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // Children of node n are mLabels/mTargets[mFirstChild[n], mFirstChild[n + 1]),
+    // sorted by label.
+    private final int[] mFirstChild;
+    private final char[] mLabels;
+    private final int[] mTargets;
+    // Bit c is set if some word contains c; other chars lead back to the
+    // root without a search.
+    private final long[] mLabelBits = new long[(Character.MAX_VALUE + 1) >>> 6];
+    // Node of the longest proper suffix of node n that is in the trie.
+    private final int[] mFail;
+    // Word ending at node n, or NONE.
+    private final int[] mWord;
+    // Nearest node on the fail chain of node n with a word, or NONE.
+    private final int[] mOutput;
+    // Word w is mChars[mWordStart[w], mWordStart[w + 1]), with the readings
+    // at the same indices of mReadings.
+    private final int[] mWordStart;
+    private final String mChars;
+    private final String[] mReadings;
+
+    /**
+     * Parse the text form: one word per line, followed by the reading of
+     * each of its chars. Empty lines and lines starting with '#' are
+     * skipped.
+     *
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    static PhraseDictionary parse(CharSequence text) {
+        List<String> words = new ArrayList<String>();
+        List<String> readings = new ArrayList<String>();
+        for (String line : text.toString().split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            String[] fields = line.split(" +");
+            String word = fields[0];
+            if (fields.length != word.length() + 1) {
+                throw new IllegalArgumentException("Expected one reading per char: " + line);
+            }
+            words.add(word);
+            for (int i = 1; i < fields.length; i++) {
+                readings.add(SyllablePool.get(SyllablePool.intern(fields[i])));
+            }
+        }
+        return new PhraseDictionary(words, readings.toArray(new String[readings.size()]));
+    }
+
+    private PhraseDictionary(List<String> words, String[] readings) {
+        mReadings = readings;
+        mWordStart = new int[words.size() + 1];
+        StringBuilder chars = new StringBuilder(readings.length);
+        Builder builder = new Builder();
+        for (int w = 0; w < words.size(); w++) {
+            String word = words.get(w);
+            mWordStart[w + 1] = mWordStart[w] + word.length();
+            chars.append(word);
+            builder.insert(word, w);
+        }
+        mChars = chars.toString();
+
+        // Renumber the nodes breadth first, so the edges of node n follow
+        // those of node n - 1 and a node comes after its fail node.
+        final int nodeCount = builder.mNodeCount;
+        int[] order = new int[nodeCount];
+        int[] id = new int[nodeCount];
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int node = order[head];
+            id[node] = head;
+            for (int k = 0; k < builder.mChildCounts[node]; k++) {
+                order[tail++] = builder.mChildren[node][k];
+            }
+        }
+        mFirstChild = new int[nodeCount + 1];
+        mLabels = new char[nodeCount - 1];
+        mTargets = new int[nodeCount - 1];
+        mWord = new int[nodeCount];
+        int edge = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            int node = order[n];
+            mFirstChild[n] = edge;
+            mWord[n] = builder.mWords[node];
+            for (int k = 0; k < builder.mChildCounts[node]; k++) {
+                mLabels[edge] = builder.mLabels[node][k];
+                mTargets[edge] = id[builder.mChildren[node][k]];
+                edge++;
+            }
+        }
+        mFirstChild[nodeCount] = edge;
+        for (char label : mLabels) {
+            mLabelBits[label >>> 6] |= 1L << label;
+        }
+
+        mFail = new int[nodeCount];
+        mOutput = new int[nodeCount];
+        mOutput[ROOT] = NONE;
+        for (int n = 0; n < nodeCount; n++) {
+            for (int e = mFirstChild[n]; e < mFirstChild[n + 1]; e++) {
+                int child = mTargets[e];
+                int fail = n == ROOT ? ROOT : next(mFail[n], mLabels[e]);
+                mFail[child] = fail;
+                mOutput[child] = mWord[fail] != NONE ? fail : mOutput[fail];
+            }
+        }
+    }
+
+    private int child(int node, char label) {
+        int start = mFirstChild[node];
+        int index = Arrays.binarySearch(mLabels, start, mFirstChild[node + 1], label);
+        return index < 0 ? NONE : mTargets[index];
+    }
+
+    // Automaton transition from node on label.
+    private int next(int node, char label) {
+        if ((mLabelBits[label >>> 6] & (1L << label)) == 0) {
+            return ROOT;
+        }
+        while (true) {
+            int child = child(node, label);
+            if (child != NONE) {
+                return child;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = mFail[node];
+        }
+    }
+
+    /**
+     * Number of words.
+     */
+    int size() {
+        return mWordStart.length - 1;
+    }
+
+    /**
+     * Check that every reading of a char of the table is one of its
+     * readings in the table.
+     *
+     * @throws IllegalArgumentException naming the first word that is not
+     */
+    void validate(PolyphonyTable table) {
+        for (int w = 0; w < size(); w++) {
+            for (int i = mWordStart[w]; i < mWordStart[w + 1]; i++) {
+                String[] readings = table.get(mChars.charAt(i));
+                if (readings != null && indexOf(readings, mReadings[i]) < 0) {
+                    throw new IllegalArgumentException("Reading " + mReadings[i] + " of "
+                            + mChars.charAt(i) + " is not in the char table: "
+                            + mChars.substring(mWordStart[w], mWordStart[w + 1]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the reading of each char of the text into dst: null for chars
+     * without polyphony in the table, the reading fixed by a word for
+     * polyphonic chars inside a word, the heaviest reading otherwise.
+     *
+     * @return the number of polyphonic chars
+     */
+    int resolve(CharSequence text, PolyphonyTable table, String[] dst) {
+        final int length = text.length();
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            String reading = table.getPreferred(text.charAt(i));
+            if (reading != null) {
+                dst[i] = reading;
+                count++;
+            } else {
+                dst[i] = null;
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        // Length of the word that set dst[i], allocated on the first match.
+        int[] cover = null;
+        int node = ROOT;
+        for (int end = 1; end <= length; end++) {
+            node = next(node, text.charAt(end - 1));
+            for (int match = mWord[node] != NONE ? node : mOutput[node]; match != NONE;
+                    match = mOutput[match]) {
+                int word = mWord[match];
+                int wordStart = mWordStart[word];
+                int wordLength = mWordStart[word + 1] - wordStart;
+                int start = end - wordLength;
+                if (cover == null) {
+                    cover = new int[length];
+                }
+                for (int k = 0; k < wordLength; k++) {
+                    int i = start + k;
+                    if (dst[i] == null || cover[i] >= wordLength) {
+                        continue;
+                    }
+                    String[] readings = table.get(text.charAt(i));
+                    int index = indexOf(readings, mReadings[wordStart + k]);
+                    if (index >= 0) {
+                        dst[i] = readings[index];
+                        cover[i] = wordLength;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int indexOf(String[] readings, String reading) {
+        for (int i = 0; i < readings.length; i++) {
+            if (readings[i].equals(reading)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Trie used while building, with the word ending at each node.
+     */
+    private static final class Builder extends TrieBuilder {
+        int[] mWords = grow(new int[0], INITIAL_CAPACITY);
+
+        void insert(String word, int w) {
+            int node = add(word);
+            if (mWords[node] != NONE) {
+                throw new IllegalArgumentException("Duplicate word: " + word);
+            }
+            mWords[node] = w;
+        }
+
+        @Override
+        void growNodes(int capacity) {
+            mWords = grow(mWords, capacity);
+        }
+
+        private static int[] grow(int[] words, int capacity) {
+            int[] grown = Arrays.copyOf(words, capacity);
+            Arrays.fill(grown, words.length, capacity, NONE);
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Converts batches of texts into columns of readings, in the spirit of an
+ * Arrow string column: all formatted readings of the batch go into one
+ * char[], and int offset arrays tell where each text, char and reading
+ * starts.
+ *
+ * <pre>
+ * text t     chars  [textOffsets[t], textOffsets[t + 1])
+ * char j     readings  [charReadingOffsets[j], charReadingOffsets[j + 1])
+ * reading r  readingChars[readingOffsets[r], readingOffsets[r + 1])
+ * </pre>
+ *
+ * Chars are numbered across the batch in UTF-16 units. A polyphonic char
+ * has all its readings, in the order of {@link PinyinHelper#getPolyphony},
+ * and its polyphony bit set; another Han char has the reading of
+ * {@link PinyinHelper#getPinyin(int)}; other chars, and the low half of a
+ * surrogate pair, have none.
+ *
+ * The arrays are reused and grown as needed, so once they fit the largest
+ * batch, converting allocates nothing. The getters return the arrays
+ * themselves: they are only valid up to the counts of the last batch and
+ * are overwritten by the next {@link #convert}. Not thread safe.
+ */
+public final class PinyinBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int mFormat;
+    private final int[] mPacked = new int[PolyphonyTable.MAX_READINGS];
+
+    private int mTextCount;
+    private int[] mTextOffsets = new int[INITIAL_CAPACITY + 1];
+    private int mCharCount;
+    private int[] mCharReadingOffsets = new int[INITIAL_CAPACITY + 1];
+    private byte[] mReadingCounts = new byte[INITIAL_CAPACITY];
+    private long[] mPolyphonyBits = new long[INITIAL_CAPACITY >>> 6];
+    private int mReadingCount;
+    private int[] mReadingOffsets = new int[INITIAL_CAPACITY + 1];
+    private int mReadingCharCount;
+    private char[] mReadingChars = new char[INITIAL_CAPACITY * PinyinReading.MAX_LENGTH];
+    private CharBuffer mReadingBuffer;
+
+    /**
+     * @param format how readings are written, one of the FORMAT constants
+     *        of {@link PinyinReading}
+     */
+    public PinyinBatch(int format) {
+        if (format != PinyinReading.FORMAT_PLAIN && format != PinyinReading.FORMAT_NUMERIC_TONE
+                && format != PinyinReading.FORMAT_DIACRITIC) {
+            throw new IllegalArgumentException("format " + format);
+        }
+        mFormat = format;
+    }
+
+    /**
+     * Convert all texts of the list, replacing the last batch.
+     */
+    public void convert(List<? extends CharSequence> texts) {
+        final PolyphonyTable table = PinyinHelper.polyphonyTable();
+        final int count = texts.size();
+        reset(count);
+        for (int t = 0; t < count; t++) {
+            append(table, texts.get(t));
+            mTextOffsets[t + 1] = mCharCount;
+        }
+    }
+
+    /**
+     * Convert {@code texts[offset, offset + count)}, replacing the last
+     * batch.
+     */
+    public void convert(CharSequence[] texts, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > texts.length - count) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + count
+                    + ", array length " + texts.length);
+        }
+        final PolyphonyTable table = PinyinHelper.polyphonyTable();
+        reset(count);
+        for (int t = 0; t < count; t++) {
+            append(table, texts[offset + t]);
+            mTextOffsets[t + 1] = mCharCount;
+        }
+    }
+
+    private void reset(int textCount) {
+        if (mTextOffsets.length < textCount + 1) {
+            mTextOffsets = new int[Math.max(textCount + 1, mTextOffsets.length * 2)];
+        }
+        Arrays.fill(mPolyphonyBits, 0, (mCharCount + 63) >>> 6, 0);
+        mTextCount = textCount;
+        mCharCount = 0;
+        mReadingCount = 0;
+        mReadingCharCount = 0;
+        mTextOffsets[0] = 0;
+        mCharReadingOffsets[0] = 0;
+        mReadingOffsets[0] = 0;
+    }
+
+    private void append(PolyphonyTable table, CharSequence text) {
+        final int length = text.length();
+        ensureCharCapacity(mCharCount + length);
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            final int j = mCharCount++;
+            mCharReadingOffsets[j] = mReadingCount;
+            int count = table.getReadings(c, mPacked, 0);
+            if (count > 0) {
+                mPolyphonyBits[j >>> 6] |= 1L << j;
+            } else {
+                int codePoint = c;
+                if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+                }
+                int reading = PinyinHelper.getPinyinReading(codePoint);
+                if (reading >= 0) {
+                    mPacked[0] = reading;
+                    count = 1;
+                }
+            }
+            mReadingCounts[j] = (byte) count;
+            if (count > 0) {
+                appendReadings(count);
+            }
+        }
+        mCharReadingOffsets[mCharCount] = mReadingCount;
+    }
+
+    private void appendReadings(int count) {
+        if (mReadingOffsets.length < mReadingCount + count + 1) {
+            mReadingOffsets = Arrays.copyOf(mReadingOffsets,
+                    Math.max(mReadingCount + count + 1, mReadingOffsets.length * 2));
+        }
+        int needed = mReadingCharCount + count * PinyinReading.MAX_LENGTH;
+        if (mReadingChars.length < needed) {
+            mReadingChars = Arrays.copyOf(mReadingChars,
+                    Math.max(needed, mReadingChars.length * 2));
+        }
+        for (int k = 0; k < count; k++) {
+            mReadingOffsets[mReadingCount++] = mReadingCharCount;
+            mReadingCharCount += PinyinReading.format(mPacked[k], mFormat,
+                    mReadingChars, mReadingCharCount);
+        }
+        mReadingOffsets[mReadingCount] = mReadingCharCount;
+    }
+
+    private void ensureCharCapacity(int capacity) {
+        if (mReadingCounts.length >= capacity) {
+            return;
+        }
+        capacity = Math.max(capacity, mReadingCounts.length * 2);
+        mCharReadingOffsets = Arrays.copyOf(mCharReadingOffsets, capacity + 1);
+        mReadingCounts = Arrays.copyOf(mReadingCounts, capacity);
+        mPolyphonyBits = Arrays.copyOf(mPolyphonyBits, (capacity + 63) >>> 6);
+    }
+
+    public int getTextCount() {
+        return mTextCount;
+    }
+
+    /**
+     * Number of chars of all texts of the batch.
+     */
+    public int getCharCount() {
+        return mCharCount;
+    }
+
+    public int getReadingCount() {
+        return mReadingCount;
+    }
+
+    /**
+     * Number of chars of all formatted readings.
+     */
+    public int getReadingCharCount() {
+        return mReadingCharCount;
+    }
+
+    /**
+     * Chars of text t are [offsets[t], offsets[t + 1]), getTextCount() + 1
+     * entries are valid.
+     */
+    public int[] getTextOffsets() {
+        return mTextOffsets;
+    }
+
+    /**
+     * Readings of char j are [offsets[j], offsets[j + 1]), getCharCount() + 1
+     * entries are valid.
+     */
+    public int[] getCharReadingOffsets() {
+        return mCharReadingOffsets;
+    }
+
+    /**
+     * Number of readings of each char, getCharCount() entries are valid.
+     */
+    public byte[] getReadingCounts() {
+        return mReadingCounts;
+    }
+
+    /**
+     * Bit j is set if char j is polyphonic: bit {@code j & 63} of word
+     * {@code j >>> 6}.
+     */
+    public long[] getPolyphonyBits() {
+        return mPolyphonyBits;
+    }
+
+    public boolean isPolyphony(int charIndex) {
+        if (charIndex < 0 || charIndex >= mCharCount) {
+            throw new IndexOutOfBoundsException("char " + charIndex + ", count " + mCharCount);
+        }
+        return (mPolyphonyBits[charIndex >>> 6] & (1L << charIndex)) != 0;
+    }
+
+    /**
+     * Reading r is readingChars[offsets[r], offsets[r + 1]),
+     * getReadingCount() + 1 entries are valid.
+     */
+    public int[] getReadingOffsets() {
+        return mReadingOffsets;
+    }
+
+    /**
+     * The formatted readings back to back, getReadingCharCount() chars are
+     * valid.
+     */
+    public char[] getReadingChars() {
+        return mReadingChars;
+    }
+
+    /**
+     * The formatted readings as a buffer from 0 to getReadingCharCount().
+     * The buffer is reused by later calls.
+     */
+    public CharBuffer getReadingBuffer() {
+        if (mReadingBuffer == null || mReadingBuffer.array() != mReadingChars) {
+            mReadingBuffer = CharBuffer.wrap(mReadingChars);
+        }
+        mReadingBuffer.limit(mReadingCharCount).position(0);
+        return mReadingBuffer;
+    }
+
+    /**
+     * Reading r as a String. Allocates; use the arrays in bulk code.
+     */
+    public String getReading(int r) {
+        if (r < 0 || r >= mReadingCount) {
+            throw new IndexOutOfBoundsException("reading " + r + ", count " + mReadingCount);
+        }
+        int start = mReadingOffsets[r];
+        return new String(mReadingChars, start, mReadingOffsets[r + 1] - start);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Builds binary collation keys that sort names by pinyin. Keys compare as
+ * unsigned bytes, see {@link #compare(byte[], byte[])}, so a list can be
+ * sorted, or a database column indexed, without looking up a reading in
+ * every comparison.
+ *
+ * Every Han char is read once: the surname, which may be a compound
+ * surname, with its heaviest reading as in {@link NameReadings}, the other
+ * chars with {@link PinyinHelper#resolvePolyphony(CharSequence)} or
+ * {@link PinyinHelper#getPinyin(int)}. A key has three levels, each ended
+ * by a 0 byte, and a level only matters if the ones before are equal:
+ * <ol>
+ * <li>The syllables, syllable by syllable: 李昂 (LI ANG) sorts before 梁
+ * (LIANG). A run of ASCII letters compares like one syllable, ignoring
+ * case, so "li" sorts with 李; a run of digits sorts before any syllable.
+ * Other chars without a reading sort after all syllables by code point,
+ * spaces and ASCII punctuation are ignored.</li>
+ * <li>The kind of each char, Latin before Han, and the tone of Han chars.</li>
+ * <li>The chars themselves, in the order of {@link String#compareTo}.</li>
+ * </ol>
+ *
+ * Not thread safe, its buffers are reused from key to key; use one
+ * instance per thread. Keys of different versions of the tables may
+ * compare differently, so store them along with the data they were built
+ * from, not forever.
+ */
+public final class PinyinCollator {
+
+    /**
+     * Unsigned byte order of keys, see {@link #compare(byte[], byte[])}.
+     */
+    public static final Comparator<byte[]> KEY_ORDER = new Comparator<byte[]>() {
+        @Override
+        public int compare(byte[] a, byte[] b) {
+            return PinyinCollator.compare(a, b);
+        }
+    };
+
+    // Ends a level.
+    private static final byte LEVEL_END = 0;
+    // Ends a syllable or a run of letters or digits.
+    private static final byte UNIT_END = 1;
+    // Starts a char without a reading, followed by its code point in 3 bytes.
+    private static final byte OTHER = 'Z' + 1;
+    // Starts U+0000 or U+0001 on the third level.
+    private static final byte TERTIARY_ESCAPE = 1;
+
+    // Kinds of chars on the second level; Han chars add their tone.
+    private static final byte KIND_IGNORED = 3;
+    private static final byte KIND_DIGIT = 4;
+    private static final byte KIND_LATIN = 5;
+    private static final byte KIND_HAN = 0x10;
+    private static final byte KIND_OTHER = 0x20;
+
+    // Run of ASCII letters or digits being written, or none.
+    private static final int RUN_NONE = 0;
+    private static final int RUN_LATIN = 1;
+    private static final int RUN_DIGIT = 2;
+
+    private final Level mPrimary = new Level();
+    private final Level mSecondary = new Level();
+    private final Level mTertiary = new Level();
+    private String[] mResolved = new String[16];
+
+    /**
+     * Build the key of a name.
+     */
+    public byte[] getCollationKey(CharSequence name) {
+        build(name);
+        final int primary = mPrimary.mLength;
+        final int secondary = mSecondary.mLength;
+        final int tertiary = mTertiary.mLength;
+        byte[] key = new byte[primary + secondary + tertiary + 3];
+        System.arraycopy(mPrimary.mBytes, 0, key, 0, primary);
+        key[primary] = LEVEL_END;
+        System.arraycopy(mSecondary.mBytes, 0, key, primary + 1, secondary);
+        key[primary + secondary + 1] = LEVEL_END;
+        System.arraycopy(mTertiary.mBytes, 0, key, primary + secondary + 2, tertiary);
+        key[key.length - 1] = LEVEL_END;
+        return key;
+    }
+
+    /**
+     * Build the keys of a batch of names, reusing the buffers of this
+     * collator for all of them.
+     *
+     * @return the key of names[i] at index i
+     */
+    public byte[][] getCollationKeys(CharSequence[] names) {
+        byte[][] keys = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            keys[i] = getCollationKey(names[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Sort names by their keys, building each key once. Equal names keep
+     * their order.
+     */
+    public void sort(CharSequence[] names) {
+        final byte[][] keys = getCollationKeys(names);
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return PinyinCollator.compare(keys[a], keys[b]);
+            }
+        });
+        CharSequence[] sorted = new CharSequence[names.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = names[order[i]];
+        }
+        System.arraycopy(sorted, 0, names, 0, names.length);
+    }
+
+    /**
+     * Compare two keys as unsigned bytes, a key before any longer key it is
+     * a prefix of; what memcmp and database BLOB ordering do.
+     */
+    public static int compare(byte[] a, byte[] b) {
+        final int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return (a[i] & 0xff) - (b[i] & 0xff);
+            }
+        }
+        return a.length - b.length;
+    }
+
+    private void build(CharSequence name) {
+        final int length = name.length();
+        mPrimary.mLength = 0;
+        mSecondary.mLength = 0;
+        mTertiary.mLength = 0;
+        if (mResolved.length < length) {
+            mResolved = new String[Math.max(length, mResolved.length * 2)];
+        }
+        PinyinHelper.resolvePolyphony(name, mResolved);
+        String[][] compound = PinyinHelper.getCompoundSurname(name);
+        int run = RUN_NONE;
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(name, i);
+            int charCount = Character.charCount(codePoint);
+            if (codePoint < 0x80 && Character.isLetterOrDigit(codePoint)) {
+                int kind = Character.isDigit(codePoint) ? RUN_DIGIT : RUN_LATIN;
+                if (run != kind && run != RUN_NONE) {
+                    mPrimary.append(UNIT_END);
+                }
+                run = kind;
+                mPrimary.append(Character.toUpperCase(codePoint));
+                mSecondary.append(kind == RUN_DIGIT ? KIND_DIGIT : KIND_LATIN);
+            } else {
+                if (run != RUN_NONE) {
+                    mPrimary.append(UNIT_END);
+                    run = RUN_NONE;
+                }
+                int reading = readingAt(name, i, codePoint, compound);
+                if (reading >= 0) {
+                    String syllable = SyllablePool.get(PinyinReading.getSyllableId(reading));
+                    for (int k = 0; k < syllable.length(); k++) {
+                        mPrimary.append(syllable.charAt(k));
+                    }
+                    mPrimary.append(UNIT_END);
+                    mSecondary.append(KIND_HAN + PinyinReading.getTone(reading));
+                } else if (codePoint < 0x80 || Character.isSpaceChar(codePoint)) {
+                    mSecondary.append(KIND_IGNORED);
+                } else {
+                    mPrimary.append(OTHER);
+                    // 7 bits per byte, never 0.
+                    mPrimary.append(0x80 | (codePoint >>> 14));
+                    mPrimary.append(0x80 | ((codePoint >>> 7) & 0x7f));
+                    mPrimary.append(0x80 | (codePoint & 0x7f));
+                    mSecondary.append(KIND_OTHER);
+                }
+            }
+            i += charCount;
+        }
+        if (run != RUN_NONE) {
+            mPrimary.append(UNIT_END);
+        }
+        // UTF-8 of each char, surrogates one by one, which keeps the order
+        // of the chars. 0 is kept for level ends, so U+0000 and U+0001 are
+        // written as 01 01 and 01 02, still below every other char.
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c <= 1) {
+                mTertiary.append(TERTIARY_ESCAPE);
+                mTertiary.append(c + 1);
+            } else if (c < 0x80) {
+                mTertiary.append(c);
+            } else if (c < 0x800) {
+                mTertiary.append(0xc0 | (c >>> 6));
+                mTertiary.append(0x80 | (c & 0x3f));
+            } else {
+                mTertiary.append(0xe0 | (c >>> 12));
+                mTertiary.append(0x80 | ((c >>> 6) & 0x3f));
+                mTertiary.append(0x80 | (c & 0x3f));
+            }
+        }
+    }
+
+    /**
+     * @return the packed reading of the code point at index i of the name,
+     *         or -1 if it has none
+     */
+    private int readingAt(CharSequence name, int i, int codePoint, String[][] compound) {
+        int surnameLength = compound != null ? 2 : 1;
+        if (i < surnameLength) {
+            if (compound != null && compound[i] != null) {
+                return PinyinHelper.withTone(SyllablePool.idOf(compound[i][0]), codePoint);
+            }
+            if (i == 0 && compound == null) {
+                // The heaviest reading, as NameReadings reads the surname.
+                String preferred = NameReadings.tableAt(PinyinHelper.getSnapshot(), name, 0)
+                        .getPreferred(name.charAt(0));
+                if (preferred != null) {
+                    return PinyinHelper.withTone(SyllablePool.idOf(preferred), codePoint);
+                }
+            }
+        }
+        String resolved = mResolved[i];
+        if (resolved != null) {
+            return PinyinHelper.withTone(SyllablePool.idOf(resolved), codePoint);
+        }
+        return PinyinHelper.getPinyinReading(codePoint);
+    }
+
+    /**
+     * Growable bytes of one level.
+     */
+    private static final class Level {
+        byte[] mBytes = new byte[64];
+        int mLength;
+
+        void append(int b) {
+            if (mLength == mBytes.length) {
+                mBytes = Arrays.copyOf(mBytes, mLength * 2);
+            }
+            mBytes[mLength++] = (byte) b;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Annotates a UTF-8 text file, one name or sentence per line, with pinyin.
+ * Each output line is the input line, a tab and the reading of each Han
+ * char, separated by spaces; other chars are copied as they are:
+ *
+ * <pre>
+ * 银行行长 Li	YIN HANG HANG ZHANG Li
+ * </pre>
+ *
+ * Polyphonic chars are read with
+ * {@link PinyinHelper#resolvePolyphony(CharSequence)}, the others with
+ * {@link PinyinHelper#getPinyin(int)}.
+ *
+ * The input is split at line ends into chunks, which are mapped and
+ * converted in parallel; converted chunks are written in input order, and
+ * only a few chunks per thread are held at a time. Throughput is reported
+ * on stderr.
+ *
+ * Usage: PinyinFileConverter [--threads N] [--format plain|numeric|diacritic]
+ * &lt;input&gt; &lt;output&gt;
+ */
+public final class PinyinFileConverter {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Bytes of input per chunk, a chunk ends at the first line end after.
+     */
+    static final int CHUNK_SIZE = 4 << 20;
+    // Chunks converted or being converted per thread, ahead of the writer.
+    private static final int CHUNKS_PER_THREAD = 2;
+
+    private final int mThreads;
+    private final int mFormat;
+
+    private long mLineCount;
+    private long mInputBytes;
+    private long mOutputBytes;
+
+    /**
+     * @param threads number of converting threads
+     * @param format one of the FORMAT constants of {@link PinyinReading}
+     */
+    public PinyinFileConverter(int threads, int format) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads " + threads);
+        }
+        if (format != PinyinReading.FORMAT_PLAIN && format != PinyinReading.FORMAT_NUMERIC_TONE
+                && format != PinyinReading.FORMAT_DIACRITIC) {
+            throw new IllegalArgumentException("format " + format);
+        }
+        mThreads = threads;
+        mFormat = format;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int format = PinyinReading.FORMAT_PLAIN;
+        int i = 0;
+        try {
+            for (; i < args.length - 2; i += 2) {
+                if ("--threads".equals(args[i])) {
+                    threads = Integer.parseInt(args[i + 1]);
+                } else if ("--format".equals(args[i])) {
+                    format = parseFormat(args[i + 1]);
+                } else {
+                    break;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            i = -1;
+        }
+        if (i != args.length - 2 || threads < 1) {
+            System.err.println("Usage: PinyinFileConverter [--threads N]"
+                    + " [--format plain|numeric|diacritic] <input> <output>");
+            System.exit(1);
+        }
+        PinyinFileConverter converter = new PinyinFileConverter(threads, format);
+        long start = System.nanoTime();
+        converter.convert(Paths.get(args[i]), Paths.get(args[i + 1]));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double megabytes = converter.getInputBytes() / 1e6;
+        System.err.println(String.format("Converted %d lines, %.1f MB in %.2f s: %.1f MB/s,"
+                + " %.0f lines/s, %d threads", converter.getLineCount(), megabytes, seconds,
+                megabytes / seconds, converter.getLineCount() / seconds, threads));
+    }
+
+    private static int parseFormat(String name) {
+        if ("plain".equals(name)) {
+            return PinyinReading.FORMAT_PLAIN;
+        } else if ("numeric".equals(name)) {
+            return PinyinReading.FORMAT_NUMERIC_TONE;
+        } else if ("diacritic".equals(name)) {
+            return PinyinReading.FORMAT_DIACRITIC;
+        }
+        throw new IllegalArgumentException("format " + name);
+    }
+
+    /**
+     * Convert the input file into the output file, replacing it.
+     *
+     * @throws IOException if a file can not be read or written; the output
+     *         is then incomplete
+     */
+    public void convert(Path input, Path output) throws IOException {
+        mLineCount = 0;
+        mInputBytes = 0;
+        mOutputBytes = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(mThreads);
+        FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+        FileChannel out = null;
+        try {
+            out = FileChannel.open(output, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            List<long[]> chunks = split(in);
+            ArrayDeque<Future<Chunk>> pending = new ArrayDeque<Future<Chunk>>();
+            int next = 0;
+            while (next < chunks.size() || !pending.isEmpty()) {
+                while (next < chunks.size() && pending.size() < mThreads * CHUNKS_PER_THREAD) {
+                    long[] range = chunks.get(next++);
+                    pending.add(executor.submit(new ConvertTask(in, range[0], range[1])));
+                }
+                Chunk chunk = get(pending.poll());
+                while (chunk.mOutput.hasRemaining()) {
+                    out.write(chunk.mOutput);
+                }
+                mLineCount += chunk.mLineCount;
+                mOutputBytes += chunk.mOutput.limit();
+            }
+            mInputBytes = in.size();
+        } finally {
+            executor.shutdownNow();
+            in.close();
+            if (out != null) {
+                out.close();
+            }
+        }
+    }
+
+    private static Chunk get(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Split the file into ranges of about {@link #CHUNK_SIZE} bytes that end
+     * after a '\n' or at the end of the file.
+     */
+    private static List<long[]> split(FileChannel in) throws IOException {
+        final long size = in.size();
+        List<long[]> chunks = new ArrayList<long[]>();
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long start = 0;
+        while (start < size) {
+            long end = start + CHUNK_SIZE;
+            end = end < size ? lineEnd(in, end, probe) : size;
+            chunks.add(new long[] { start, end });
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return the position after the first '\n' at or after
+     *         {@code position - 1}, or the file size if there is none
+     */
+    private static long lineEnd(FileChannel in, long position, ByteBuffer probe)
+            throws IOException {
+        long from = position - 1;
+        while (true) {
+            probe.clear();
+            int count = in.read(probe, from);
+            if (count <= 0) {
+                return in.size();
+            }
+            for (int k = 0; k < count; k++) {
+                if (probe.get(k) == '\n') {
+                    return from + k + 1;
+                }
+            }
+            from += count;
+        }
+    }
+
+    public long getLineCount() {
+        return mLineCount;
+    }
+
+    public long getInputBytes() {
+        return mInputBytes;
+    }
+
+    public long getOutputBytes() {
+        return mOutputBytes;
+    }
+
+    private static final class Chunk {
+        final ByteBuffer mOutput;
+        final int mLineCount;
+
+        Chunk(ByteBuffer output, int lineCount) {
+            mOutput = output;
+            mLineCount = lineCount;
+        }
+    }
+
+    /**
+     * Maps and converts one chunk.
+     */
+    private final class ConvertTask implements Callable<Chunk> {
+        private final FileChannel mChannel;
+        private final long mStart;
+        private final long mEnd;
+
+        ConvertTask(FileChannel channel, long start, long end) {
+            mChannel = channel;
+            mStart = start;
+            mEnd = end;
+        }
+
+        @Override
+        public Chunk call() throws IOException {
+            ByteBuffer input = mChannel.map(FileChannel.MapMode.READ_ONLY, mStart, mEnd - mStart);
+            CharsetDecoder decoder = UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            CharBuffer text = decoder.decode(input);
+            LineConverter converter = new LineConverter(mFormat, text.remaining());
+            int lineCount = 0;
+            // Decoded buffers start at 0.
+            int lineStart = 0;
+            final int end = text.limit();
+            while (lineStart < end) {
+                int lineEnd = lineStart;
+                while (lineEnd < end && text.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int contentEnd = lineEnd;
+                if (contentEnd > lineStart && text.get(contentEnd - 1) == '\r') {
+                    contentEnd--;
+                }
+                converter.convertLine(text, lineStart, contentEnd);
+                lineCount++;
+                lineStart = lineEnd + 1;
+            }
+            CharsetEncoder encoder = UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            try {
+                return new Chunk(encoder.encode(converter.output()), lineCount);
+            } catch (CharacterCodingException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes annotated lines into a growing char buffer. Also used by
+     * {@link PinyinServer}, which writes the readings only.
+     */
+    static final class LineConverter {
+        private final int mFormat;
+        private char[] mOutput;
+        private int mLength;
+        private String[] mResolved = new String[64];
+
+        LineConverter(int format, int capacity) {
+            mFormat = format;
+            mOutput = new char[Math.max(64, capacity * 2)];
+        }
+
+        /**
+         * Append "line\treadings\n" for {@code text[start, end)}.
+         */
+        void convertLine(CharBuffer text, int start, int end) {
+            final int length = end - start;
+            ensureCapacity(length * (PinyinReading.MAX_LENGTH + 2) + 2);
+            for (int i = start; i < end; i++) {
+                mOutput[mLength++] = text.get(i);
+            }
+            mOutput[mLength++] = '\t';
+            CharSequence line = text.subSequence(start, end);
+            PinyinHelper.resolvePolyphony(line, resolved(length));
+            appendReadings(line);
+        }
+
+        /**
+         * Append "readings\n" for the line, read as text.
+         */
+        void convertText(CharSequence line) {
+            ensureCapacity(line.length() * (PinyinReading.MAX_LENGTH + 2) + 1);
+            PinyinHelper.resolvePolyphony(line, resolved(line.length()));
+            appendReadings(line);
+        }
+
+        /**
+         * Append "readings\n" for the line, read as a full name: polyphonic
+         * chars take their reading in the most likely combination of
+         * {@link NameReadings#getTopReadings}, found in one pass.
+         */
+        void convertName(CharSequence name) {
+            final int length = name.length();
+            ensureCapacity(length * (PinyinReading.MAX_LENGTH + 2) + 1);
+            NameReadings.resolveHeaviest(name, resolved(length));
+            appendReadings(name);
+        }
+
+        private String[] resolved(int length) {
+            if (mResolved.length < length) {
+                mResolved = new String[Math.max(length, mResolved.length * 2)];
+            }
+            return mResolved;
+        }
+
+        /**
+         * Append the readings of the line, with the polyphonic chars read as
+         * resolved, and a line end.
+         */
+        private void appendReadings(CharSequence line) {
+            final int length = line.length();
+            // Whether the last thing written was a reading, or a char that
+            // needs a space before a reading.
+            boolean afterReading = false;
+            boolean afterText = false;
+            for (int i = 0; i < length; ) {
+                int codePoint = Character.codePointAt(line, i);
+                int charCount = Character.charCount(codePoint);
+                String resolved = mResolved[i];
+                int reading = resolved != null
+                        ? PinyinHelper.withTone(SyllablePool.idOf(resolved), codePoint)
+                        : PinyinHelper.getPinyinReading(codePoint);
+                if (reading >= 0) {
+                    if (afterReading || afterText) {
+                        mOutput[mLength++] = ' ';
+                    }
+                    mLength += PinyinReading.format(reading, mFormat, mOutput, mLength);
+                    afterReading = true;
+                    afterText = false;
+                } else {
+                    if (afterReading && !Character.isWhitespace(codePoint)) {
+                        mOutput[mLength++] = ' ';
+                    }
+                    for (int k = 0; k < charCount; k++) {
+                        mOutput[mLength++] = line.charAt(i + k);
+                    }
+                    afterReading = false;
+                    afterText = !Character.isWhitespace(codePoint);
+                }
+                i += charCount;
+            }
+            mOutput[mLength++] = '\n';
+        }
+
+        private void ensureCapacity(int more) {
+            if (mOutput.length - mLength < more) {
+                char[] output = new char[Math.max(mLength + more, mOutput.length * 2)];
+                System.arraycopy(mOutput, 0, output, 0, mLength);
+                mOutput = output;
+            }
+        }
+
+        CharBuffer output() {
+            return CharBuffer.wrap(mOutput, 0, mLength);
+        }
+    }
+}
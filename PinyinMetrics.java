@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in usage metrics of {@link PinyinHelper}.
+ *
+ * Disabled by default. While disabled, an instrumented call pays one read
+ * of a volatile flag and records nothing; while enabled, counters are
+ * striped {@link LongAdder}s, so threads do not contend on them.
+ *
+ * Histograms have 64 buckets, bucket i counting values v with
+ * 2^(i-1) <= v < 2^i (bucket 0 counts zeros). Latencies are in
+ * nanoseconds.
+ */
+public final class PinyinMetrics {
+
+    private PinyinMetrics(){};
+
+    /**
+     * Name under which {@link #registerMBean()} registers the metrics.
+     */
+    public static final String OBJECT_NAME = "smartisanos.util:type=PinyinMetrics";
+
+    // Checked by instrumented code before recording anything.
+    static volatile boolean sEnabled;
+
+    private static final LongAdder sPolyphonyLookups = new LongAdder();
+    private static final LongAdder sPolyphonyHits = new LongAdder();
+    private static final LongAdder sFamilyNameLookups = new LongAdder();
+    private static final LongAdder sFamilyNameHits = new LongAdder();
+    private static final LongAdder sScannedChars = new LongAdder();
+    private static final LongAdder sScanHits = new LongAdder();
+    private static final LongAdder sNameExpansions = new LongAdder();
+    private static final LongAdder sCombinations = new LongAdder();
+    private static final Histogram sCombinationHistogram = new Histogram();
+    private static final Histogram sScanLatency = new Histogram();
+    private static final Histogram sResolveLatency = new Histogram();
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Start or stop recording. Counts recorded so far are kept.
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    /**
+     * Set all counts to zero.
+     */
+    public static void reset() {
+        sPolyphonyLookups.reset();
+        sPolyphonyHits.reset();
+        sFamilyNameLookups.reset();
+        sFamilyNameHits.reset();
+        sScannedChars.reset();
+        sScanHits.reset();
+        sNameExpansions.reset();
+        sCombinations.reset();
+        sCombinationHistogram.reset();
+        sScanLatency.reset();
+        sResolveLatency.reset();
+    }
+
+    /**
+     * Number of single char polyphony lookups, getPolyphony and isPolyphony.
+     */
+    public static long getPolyphonyLookupCount() {
+        return sPolyphonyLookups.sum();
+    }
+
+    /**
+     * Number of single char polyphony lookups that found the char.
+     */
+    public static long getPolyphonyHitCount() {
+        return sPolyphonyHits.sum();
+    }
+
+    /**
+     * Number of single char family name lookups, getPolyphonyFamilyName and
+     * isPolyphonyFamilyName.
+     */
+    public static long getFamilyNameLookupCount() {
+        return sFamilyNameLookups.sum();
+    }
+
+    /**
+     * Number of single char family name lookups that found the char.
+     */
+    public static long getFamilyNameHitCount() {
+        return sFamilyNameHits.sum();
+    }
+
+    /**
+     * Number of chars passed through scanPolyphony and resolvePolyphony.
+     */
+    public static long getScannedCharCount() {
+        return sScannedChars.sum();
+    }
+
+    /**
+     * Number of polyphonic chars found by scanPolyphony and resolvePolyphony.
+     */
+    public static long getScanHitCount() {
+        return sScanHits.sum();
+    }
+
+    /**
+     * Number of names passed to getNameReadings.
+     */
+    public static long getNameExpansionCount() {
+        return sNameExpansions.sum();
+    }
+
+    /**
+     * Number of reading combinations iterated from NameReadings.
+     */
+    public static long getCombinationCount() {
+        return sCombinations.sum();
+    }
+
+    /**
+     * Histogram of the number of reading combinations of each name passed
+     * to getNameReadings.
+     */
+    public static long[] getCombinationHistogram() {
+        return sCombinationHistogram.get();
+    }
+
+    /**
+     * Histogram of the latency of scanPolyphony calls.
+     */
+    public static long[] getScanLatencyHistogram() {
+        return sScanLatency.get();
+    }
+
+    /**
+     * Histogram of the latency of resolvePolyphony calls.
+     */
+    public static long[] getResolveLatencyHistogram() {
+        return sResolveLatency.get();
+    }
+
+    /**
+     * Register the metrics with the platform MBean server under
+     * {@link #OBJECT_NAME}, if they are not registered yet.
+     *
+     * @throws IllegalStateException if the registration fails
+     */
+    public static synchronized void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Can not register " + OBJECT_NAME, e);
+        }
+    }
+
+    static void recordPolyphonyLookup(boolean hit) {
+        sPolyphonyLookups.increment();
+        if (hit) {
+            sPolyphonyHits.increment();
+        }
+    }
+
+    static void recordFamilyNameLookup(boolean hit) {
+        sFamilyNameLookups.increment();
+        if (hit) {
+            sFamilyNameHits.increment();
+        }
+    }
+
+    /**
+     * @param startNanos System.nanoTime() when the scan started
+     */
+    static void recordScan(int chars, int hits, long startNanos) {
+        sScannedChars.add(chars);
+        sScanHits.add(hits);
+        sScanLatency.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param startNanos System.nanoTime() when the resolution started
+     */
+    static void recordResolve(int chars, int hits, long startNanos) {
+        sScannedChars.add(chars);
+        sScanHits.add(hits);
+        sResolveLatency.record(System.nanoTime() - startNanos);
+    }
+
+    static void recordNameExpansion(long combinations) {
+        sNameExpansions.increment();
+        sCombinationHistogram.record(combinations);
+    }
+
+    static void recordCombination() {
+        sCombinations.increment();
+    }
+
+    /**
+     * Power of two buckets of LongAdders.
+     */
+    private static final class Histogram {
+        private final LongAdder[] mBuckets = new LongAdder[Long.SIZE];
+
+        Histogram() {
+            for (int i = 0; i < mBuckets.length; i++) {
+                mBuckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            // Negative values, e.g. from a clock step, land in bucket 0.
+            int bucket = value <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value);
+            mBuckets[Math.min(bucket, Long.SIZE - 1)].increment();
+        }
+
+        long[] get() {
+            long[] counts = new long[mBuckets.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = mBuckets[i].sum();
+            }
+            return counts;
+        }
+
+        void reset() {
+            for (LongAdder bucket : mBuckets) {
+                bucket.reset();
+            }
+        }
+    }
+
+    private static final class MXBean implements PinyinMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return PinyinMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            PinyinMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getPolyphonyLookupCount() {
+            return PinyinMetrics.getPolyphonyLookupCount();
+        }
+
+        @Override
+        public long getPolyphonyHitCount() {
+            return PinyinMetrics.getPolyphonyHitCount();
+        }
+
+        @Override
+        public long getFamilyNameLookupCount() {
+            return PinyinMetrics.getFamilyNameLookupCount();
+        }
+
+        @Override
+        public long getFamilyNameHitCount() {
+            return PinyinMetrics.getFamilyNameHitCount();
+        }
+
+        @Override
+        public long getScannedCharCount() {
+            return PinyinMetrics.getScannedCharCount();
+        }
+
+        @Override
+        public long getScanHitCount() {
+            return PinyinMetrics.getScanHitCount();
+        }
+
+        @Override
+        public long getNameExpansionCount() {
+            return PinyinMetrics.getNameExpansionCount();
+        }
+
+        @Override
+        public long getCombinationCount() {
+            return PinyinMetrics.getCombinationCount();
+        }
+
+        @Override
+        public long[] getCombinationHistogram() {
+            return PinyinMetrics.getCombinationHistogram();
+        }
+
+        @Override
+        public long[] getScanLatencyHistogram() {
+            return PinyinMetrics.getScanLatencyHistogram();
+        }
+
+        @Override
+        public long[] getResolveLatencyHistogram() {
+            return PinyinMetrics.getResolveLatencyHistogram();
+        }
+
+        @Override
+        public void reset() {
+            PinyinMetrics.reset();
+        }
+    }
+}
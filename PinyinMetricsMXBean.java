@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+/**
+ * JMX view of {@link PinyinMetrics}, see {@link PinyinMetrics#registerMBean()}.
+ */
+public interface PinyinMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getPolyphonyLookupCount();
+
+    long getPolyphonyHitCount();
+
+    long getFamilyNameLookupCount();
+
+    long getFamilyNameHitCount();
+
+    long getScannedCharCount();
+
+    long getScanHitCount();
+
+    long getNameExpansionCount();
+
+    long getCombinationCount();
+
+    long[] getCombinationHistogram();
+
+    long[] getScanLatencyHistogram();
+
+    long[] getResolveLatencyHistogram();
+
+    void reset();
+}
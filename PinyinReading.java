@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+/**
+ * Packed readings: a syllable id (see {@link PinyinHelper#getSyllable(int)})
+ * and a tone in one int, and formatters that write them without creating
+ * Strings.
+ *
+ * The tone is one of {@link #TONE_UNKNOWN}, 1 to 4, or {@link #TONE_NEUTRAL}.
+ * Tables record a tone only where their data gives one, so formatters
+ * must expect {@link #TONE_UNKNOWN}; they then write the plain syllable.
+ */
+public final class PinyinReading {
+
+    private PinyinReading(){};
+
+    static final int TONE_SHIFT = 12;
+    static final int ID_MASK = (1 << TONE_SHIFT) - 1;
+
+    public static final int TONE_UNKNOWN = 0;
+    public static final int TONE_NEUTRAL = 5;
+
+    /**
+     * Uppercase syllable without tone, U+00FC written as V: "LV".
+     */
+    public static final int FORMAT_PLAIN = 0;
+    /**
+     * Uppercase syllable followed by the tone number, 5 for the neutral
+     * tone and nothing if the tone is unknown: "LV3".
+     */
+    public static final int FORMAT_NUMERIC_TONE = 1;
+    /**
+     * Lowercase syllable with the tone mark: "lǚ".
+     */
+    public static final int FORMAT_DIACRITIC = 2;
+
+    /**
+     * Max number of chars a formatter writes for one reading.
+     */
+    public static final int MAX_LENGTH = 7;
+
+    // Marked vowels by vowel (a, e, i, o, u, ü, n, m) and tone 1 to 4; n and
+    // m have no precomposed char for every tone.
+    private static final String VOWELS = "AEIOUVNM";
+    private static final int VOWEL_COUNT = 6;
+    private static final String MARKED = ""
+            + "\u0101\u00e1\u01ce\u00e0"
+            + "\u0113\u00e9\u011b\u00e8"
+            + "\u012b\u00ed\u01d0\u00ec"
+            + "\u014d\u00f3\u01d2\u00f2"
+            + "\u016b\u00fa\u01d4\u00f9"
+            + "\u01d6\u01d8\u01da\u01dc"
+            + "n\u0144\u0148\u01f9"
+            + "m\u1e3fmm";
+
+    public static int pack(int syllableId, int tone) {
+        if (syllableId < 0 || syllableId >= SyllablePool.size()) {
+            throw new IllegalArgumentException("syllable id " + syllableId);
+        }
+        if (tone < TONE_UNKNOWN || tone > TONE_NEUTRAL) {
+            throw new IllegalArgumentException("tone " + tone);
+        }
+        return (tone << TONE_SHIFT) | syllableId;
+    }
+
+    public static int getSyllableId(int reading) {
+        return reading & ID_MASK;
+    }
+
+    public static int getTone(int reading) {
+        return reading >>> TONE_SHIFT;
+    }
+
+    /**
+     * Parse a syllable optionally followed by a tone number, e.g. "HANG2".
+     *
+     * @throws IllegalArgumentException if it is not a known syllable
+     */
+    static int parse(String text) {
+        int end = text.length();
+        int tone = TONE_UNKNOWN;
+        char last = end > 0 ? text.charAt(end - 1) : 0;
+        if (last >= '1' && last <= '5') {
+            tone = last - '0';
+            end--;
+        }
+        return (tone << TONE_SHIFT) | SyllablePool.intern(text, 0, end);
+    }
+
+    /**
+     * Write the reading in the given format into {@code dst}.
+     *
+     * @param dst must have room for {@link #MAX_LENGTH} chars at {@code offset}
+     * @return the number of chars written
+     */
+    public static int format(int reading, int format, char[] dst, int offset) {
+        final String syllable = SyllablePool.get(reading & ID_MASK);
+        final int tone = getTone(reading);
+        final int mark = format == FORMAT_DIACRITIC ? markIndex(syllable, tone) : -1;
+        final int length = syllable.length();
+        int n = offset;
+        for (int i = 0; i < length; i++) {
+            dst[n++] = formatChar(syllable.charAt(i), format, i == mark ? tone : 0);
+        }
+        if (format == FORMAT_NUMERIC_TONE && tone != TONE_UNKNOWN) {
+            dst[n++] = (char) ('0' + tone);
+        }
+        return n - offset;
+    }
+
+    /**
+     * Append the reading in the given format to {@code out}.
+     */
+    public static void format(int reading, int format, StringBuilder out) {
+        final String syllable = SyllablePool.get(reading & ID_MASK);
+        final int tone = getTone(reading);
+        final int mark = format == FORMAT_DIACRITIC ? markIndex(syllable, tone) : -1;
+        final int length = syllable.length();
+        for (int i = 0; i < length; i++) {
+            out.append(formatChar(syllable.charAt(i), format, i == mark ? tone : 0));
+        }
+        if (format == FORMAT_NUMERIC_TONE && tone != TONE_UNKNOWN) {
+            out.append((char) ('0' + tone));
+        }
+    }
+
+    /**
+     * @param tone the tone to mark on this char, 0 for none
+     */
+    private static char formatChar(char c, int format, int tone) {
+        if (format != FORMAT_DIACRITIC) {
+            return c;
+        }
+        if (tone >= 1 && tone <= 4) {
+            return MARKED.charAt(VOWELS.indexOf(c) * 4 + tone - 1);
+        }
+        return c == 'V' ? '\u00fc' : (char) (c - 'A' + 'a');
+    }
+
+    /**
+     * Index of the char of the syllable that carries the tone mark: a or e
+     * if present, the o of ou, else the last vowel; m or n in syllables
+     * without vowels. -1 if there is no tone to mark.
+     */
+    private static int markIndex(String syllable, int tone) {
+        if (tone < 1 || tone > 4) {
+            return -1;
+        }
+        int index = syllable.indexOf('A');
+        if (index < 0) {
+            index = syllable.indexOf('E');
+        }
+        if (index < 0) {
+            index = syllable.indexOf("OU");
+        }
+        if (index < 0) {
+            for (int i = syllable.length() - 1; i >= 0 && index < 0; i--) {
+                int vowel = VOWELS.indexOf(syllable.charAt(i));
+                if (vowel >= 0 && vowel < VOWEL_COUNT) {
+                    index = i;
+                }
+            }
+        }
+        if (index < 0) {
+            // HM, HNG, M, N, NG.
+            for (int i = 0; i < syllable.length() && index < 0; i++) {
+                char c = syllable.charAt(i);
+                if (c == 'M' || c == 'N') {
+                    index = i;
+                }
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small embedded HTTP service that converts batches of names or texts,
+ * so that several processes can share one set of tables. Built on the
+ * JDK's com.sun.net.httpserver, it needs no other dependency.
+ *
+ * <pre>
+ * POST /pinyin?type=name&amp;format=numeric
+ *
+ * 单田芳
+ * 曾行
+ * </pre>
+ *
+ * The body is UTF-8 text, one name or text per line. The response has one
+ * line of readings per input line, in order, as written by
+ * {@link PinyinFileConverter} without the input: "SHAN4 TIAN2 FANG1".
+ * With {@code type=name} (the default) the first char or compound surname
+ * is read as a family name and polyphonic chars take the most likely
+ * combination of {@link NameReadings#getTopReadings}; with
+ * {@code type=text} they are resolved by
+ * {@link PinyinHelper#resolvePolyphony(CharSequence)}. {@code format} is
+ * plain (the default), numeric or diacritic.
+ *
+ * Each exchange runs on its own virtual thread on JDK 21 and later, or on
+ * a pool of up to 256 threads before. Connections are kept alive, and
+ * requests sent back to back on one connection are answered in order.
+ * Conversions are limited to {@code maxConcurrent} at a time, and bodies
+ * held in memory, from the start of their reading to the end of their
+ * conversion, to {@link #BODIES_PER_SLOT} times that. The conversion slot
+ * is only taken once the body is read, so slow uploads cannot keep it from
+ * other requests. A request that finds no free body or slot within
+ * {@link #QUEUE_TIMEOUT_MILLIS} gets 503 with Retry-After, so an
+ * overloaded server sheds load instead of queueing without bound. Bodies
+ * over {@link #MAX_BODY_BYTES} get 413, and the connection is closed rather
+ * than the rest read.
+ *
+ * The JDK server writes headers and body separately; without TCP_NODELAY
+ * every small response waits for a delayed ACK, about 40 ms. It also waits
+ * forever for a request to arrive, so a client that sends its body slowly
+ * keeps a body permit as long as it likes. {@link #main} turns TCP_NODELAY
+ * on with {@link #NODELAY_PROPERTY} and bounds the reading of a request
+ * with {@link #MAX_REQUEST_TIME_PROPERTY}; embedders must set those
+ * properties themselves, before the first HttpServer of the JVM is
+ * created, as they are only read then.
+ *
+ * Usage: PinyinServer [--port N] [--max-concurrent N]
+ */
+public final class PinyinServer {
+
+    /**
+     * Port used by {@link #main} without --port.
+     */
+    public static final int DEFAULT_PORT = 8321;
+    /**
+     * Largest accepted request body.
+     */
+    public static final int MAX_BODY_BYTES = 1 << 20;
+    /**
+     * How long a request waits for a conversion slot before 503.
+     */
+    public static final int QUEUE_TIMEOUT_MILLIS = 100;
+    /**
+     * System property that turns on TCP_NODELAY in the JDK server, read
+     * when the first server of the JVM is created.
+     */
+    public static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    /**
+     * System property with the seconds the JDK server allows for reading a
+     * request, headers and body, before it closes the connection. Read
+     * when the first server of the JVM is created.
+     */
+    public static final String MAX_REQUEST_TIME_PROPERTY = "sun.net.httpserver.maxReqTime";
+    /**
+     * Seconds {@link #main} allows for reading a request.
+     */
+    public static final int MAX_REQUEST_SECONDS = 30;
+    /**
+     * Bodies held in memory per conversion slot, being read or waiting for
+     * the slot.
+     */
+    public static final int BODIES_PER_SLOT = 4;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    // Threads of the pool used where there are no virtual threads: enough
+    // that requests wait for a slot, with a timeout, rather than in the
+    // unbounded queue of the pool. Threads are only started as needed.
+    private static final int POOL_THREADS = 256;
+
+    private final HttpServer mServer;
+    private final ExecutorService mExecutor;
+    private final boolean mVirtualThreads;
+    private final Semaphore mSlots;
+    private final Semaphore mBodies;
+
+    /**
+     * Bind the server, see {@link #start()}. Set {@link #NODELAY_PROPERTY}
+     * before, or responses are delayed, and {@link #MAX_REQUEST_TIME_PROPERTY},
+     * or slow clients can hold all the body permits.
+     *
+     * @param address where to listen, port 0 for any free port
+     * @param maxConcurrent conversions run at the same time
+     */
+    public PinyinServer(InetSocketAddress address, int maxConcurrent) throws IOException {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent " + maxConcurrent);
+        }
+        mSlots = new Semaphore(maxConcurrent);
+        mBodies = new Semaphore((int) Math.min(Integer.MAX_VALUE,
+                (long) maxConcurrent * BODIES_PER_SLOT));
+        ExecutorService executor = newVirtualThreadExecutor();
+        mVirtualThreads = executor != null;
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(POOL_THREADS);
+        }
+        mExecutor = executor;
+        mServer = HttpServer.create(address, 0);
+        mServer.createContext("/pinyin", new PinyinHandler());
+        mServer.setExecutor(mExecutor);
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor(), looked up at run time as
+     * the library is built for Java 8.
+     *
+     * @return the executor, or null if the JDK has no virtual threads
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Before JDK 21, or a preview JDK without --enable-preview.
+            return null;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int maxConcurrent = Runtime.getRuntime().availableProcessors() * 2;
+        int i = 0;
+        try {
+            for (; i < args.length - 1; i += 2) {
+                if ("--port".equals(args[i])) {
+                    port = Integer.parseInt(args[i + 1]);
+                } else if ("--max-concurrent".equals(args[i])) {
+                    maxConcurrent = Integer.parseInt(args[i + 1]);
+                } else {
+                    break;
+                }
+            }
+        } catch (NumberFormatException e) {
+            i = -1;
+        }
+        if (i != args.length || maxConcurrent < 1) {
+            System.err.println("Usage: PinyinServer [--port N] [--max-concurrent N]");
+            System.exit(1);
+        }
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        if (System.getProperty(MAX_REQUEST_TIME_PROPERTY) == null) {
+            System.setProperty(MAX_REQUEST_TIME_PROPERTY, String.valueOf(MAX_REQUEST_SECONDS));
+        }
+        PinyinHelper.warmUp();
+        PinyinServer server = new PinyinServer(new InetSocketAddress(port), maxConcurrent);
+        server.start();
+        System.err.println("Listening on " + server.getAddress() + ", "
+                + (server.usesVirtualThreads() ? "virtual threads" : "thread pool")
+                + ", " + maxConcurrent + " concurrent conversions");
+    }
+
+    public void start() {
+        mServer.start();
+    }
+
+    /**
+     * Stop accepting requests, wait up to {@code delaySeconds} for the
+     * running ones, then stop the threads.
+     */
+    public void stop(int delaySeconds) {
+        mServer.stop(delaySeconds);
+        mExecutor.shutdownNow();
+    }
+
+    /**
+     * The bound address, with the actual port if 0 was asked for.
+     */
+    public InetSocketAddress getAddress() {
+        return mServer.getAddress();
+    }
+
+    public boolean usesVirtualThreads() {
+        return mVirtualThreads;
+    }
+
+    private final class PinyinHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                serve(exchange);
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            sendError(exchange, 405, "POST only");
+            return;
+        }
+        boolean name = true;
+        int format = PinyinReading.FORMAT_PLAIN;
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if ("type=name".equals(parameter)) {
+                    name = true;
+                } else if ("type=text".equals(parameter)) {
+                    name = false;
+                } else if ("format=plain".equals(parameter)) {
+                    format = PinyinReading.FORMAT_PLAIN;
+                } else if ("format=numeric".equals(parameter)) {
+                    format = PinyinReading.FORMAT_NUMERIC_TONE;
+                } else if ("format=diacritic".equals(parameter)) {
+                    format = PinyinReading.FORMAT_DIACRITIC;
+                } else {
+                    sendError(exchange, 400, "Unknown parameter: " + parameter);
+                    return;
+                }
+            }
+        }
+        if (isOverLimit(exchange.getRequestHeaders().getFirst("Content-Length"))) {
+            sendTooLarge(exchange);
+            return;
+        }
+        if (!tryAcquire(mBodies)) {
+            sendBusy(exchange);
+            return;
+        }
+        ByteBuffer output;
+        try {
+            // The body is read before the slot is taken, so that a slow
+            // upload only holds a body permit.
+            byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                sendTooLarge(exchange);
+                return;
+            }
+            if (!tryAcquire(mSlots)) {
+                sendBusy(exchange);
+                return;
+            }
+            try {
+                output = convert(new String(body, UTF_8), name, format);
+            } finally {
+                mSlots.release();
+            }
+        } finally {
+            mBodies.release();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, output.remaining());
+        OutputStream out = exchange.getResponseBody();
+        out.write(output.array(), output.arrayOffset() + output.position(), output.remaining());
+        out.close();
+    }
+
+    /**
+     * @return whether a permit was taken within QUEUE_TIMEOUT_MILLIS
+     */
+    private static boolean tryAcquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return whether a Content-Length header announces a body longer than
+     *         MAX_BODY_BYTES
+     */
+    private static boolean isOverLimit(String contentLength) {
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength.trim()) > MAX_BODY_BYTES;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the body, or null if it is longer than MAX_BODY_BYTES, in
+     *         which case it is read no further
+     */
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            if (body.size() + count > MAX_BODY_BYTES) {
+                return null;
+            }
+            body.write(buffer, 0, count);
+        }
+        return body.toByteArray();
+    }
+
+    private static ByteBuffer convert(String text, boolean name, int format)
+            throws IOException {
+        PinyinFileConverter.LineConverter converter =
+                new PinyinFileConverter.LineConverter(format, text.length());
+        final int length = text.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && text.charAt(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            CharSequence line = text.subSequence(lineStart, contentEnd);
+            if (name) {
+                converter.convertName(line);
+            } else {
+                converter.convertText(line);
+            }
+            lineStart = lineEnd + 1;
+        }
+        CharsetEncoder encoder = UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try {
+            return encoder.encode(converter.output());
+        } catch (CharacterCodingException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Send 413 and close the connection, as reading the rest of the body
+     * could take forever.
+     */
+    private static void sendTooLarge(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Connection", "close");
+        sendError(exchange, 413, "Body over " + MAX_BODY_BYTES + " bytes");
+    }
+
+    private static void sendBusy(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        sendError(exchange, 503, "Busy");
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message)
+            throws IOException {
+        byte[] body = (message + "\n").getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(body);
+        out.close();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The reading of every Han char, polyphonic or not, indexed by code point.
+ *
+ * Code points of planes 0 to 3, which hold all CJK Unified Ideographs and
+ * their extensions, are split into blocks of 256. Each block points to a
+ * page of packed readings (see {@link PinyinReading}); blocks with the
+ * same readings, most of all the empty ones, share one page. A lookup is
+ * one index into the block table and one into the pages.
+ *
+ * Each slot holds one reading, the most common, also for polyphonic chars;
+ * their other readings stay in {@link PolyphonyTable}, which takes a second
+ * lookup. The slots are not made to point to the reading sets instead:
+ * the polyphony table can be replaced at run time, by a loaded dictionary
+ * or user overrides, and sets referenced from here would then be stale. A
+ * slot has no room left for a set either, as the present bit, the tone and
+ * the syllable id use all 16 bits.
+ */
+final class PinyinTable {
+
+    private static final int MAGIC = 0x50594654; // "PYFT"
+    private static final int VERSION = 1;
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    // Planes 0 to 3.
+    static final int MAX_CODE_POINT = 0x3ffff;
+    private static final int BLOCK_COUNT = (MAX_CODE_POINT + 1) >>> PAGE_SHIFT;
+
+    // Set in every slot that holds a reading, so slot 0 means absent.
+    private static final int PRESENT = 0x8000;
+
+    // Start offset in mSlots of the page of each block.
+    private final int[] mBlocks;
+    private final char[] mSlots;
+    private final int mSize;
+
+    private PinyinTable(int[] blocks, char[] slots) {
+        mBlocks = blocks;
+        mSlots = slots;
+        int size = 0;
+        for (char slot : slots) {
+            if (slot != 0) {
+                size++;
+            }
+        }
+        mSize = size;
+    }
+
+    /**
+     * Build a table from packed readings by code point.
+     */
+    static PinyinTable fromMap(Map<Integer, Integer> readings) {
+        char[][] pages = new char[BLOCK_COUNT][];
+        for (Map.Entry<Integer, Integer> entry : readings.entrySet()) {
+            int codePoint = entry.getKey();
+            if (codePoint < 0 || codePoint > MAX_CODE_POINT) {
+                throw new IllegalArgumentException("Code point out of range: " + codePoint);
+            }
+            int block = codePoint >>> PAGE_SHIFT;
+            if (pages[block] == null) {
+                pages[block] = new char[PAGE_SIZE];
+            }
+            pages[block][codePoint & PAGE_MASK] = (char) (PRESENT | entry.getValue());
+        }
+
+        // Page 0 is the empty page, equal pages are stored once.
+        HashMap<String, Integer> offsets = new HashMap<String, Integer>();
+        StringBuilder slots = new StringBuilder();
+        slots.append(new char[PAGE_SIZE]);
+        offsets.put(new String(new char[PAGE_SIZE]), 0);
+        int[] blocks = new int[BLOCK_COUNT];
+        for (int block = 0; block < BLOCK_COUNT; block++) {
+            if (pages[block] == null) {
+                continue;
+            }
+            String page = new String(pages[block]);
+            Integer offset = offsets.get(page);
+            if (offset == null) {
+                offset = slots.length();
+                slots.append(pages[block]);
+                offsets.put(page, offset);
+            }
+            blocks[block] = offset;
+        }
+        char[] slotArray = new char[slots.length()];
+        slots.getChars(0, slotArray.length, slotArray, 0);
+        return new PinyinTable(blocks, slotArray);
+    }
+
+    /**
+     * @return the packed reading of the code point, or -1 if it has none
+     */
+    int readingOf(int codePoint) {
+        if ((codePoint >>> PAGE_SHIFT) >= BLOCK_COUNT || codePoint < 0) {
+            return -1;
+        }
+        int slot = mSlots[mBlocks[codePoint >>> PAGE_SHIFT] | (codePoint & PAGE_MASK)];
+        return slot == 0 ? -1 : slot & ~PRESENT;
+    }
+
+    /**
+     * Number of code points with a reading.
+     */
+    int size() {
+        return mSize;
+    }
+
+    /**
+     * Number of distinct pages, the empty page included.
+     */
+    int pageCount() {
+        return mSlots.length >>> PAGE_SHIFT;
+    }
+
+    /**
+     * Write the binary form: magic "PYFT", version, the syllables as in
+     * {@link PolyphonyDictionary}, the page count, the page of each block
+     * and the pages, all big endian.
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(SyllablePool.size());
+        for (int id = 0; id < SyllablePool.size(); id++) {
+            String syllable = SyllablePool.get(id);
+            out.writeByte(syllable.length());
+            out.writeBytes(syllable);
+        }
+        out.writeInt(pageCount());
+        for (int offset : mBlocks) {
+            out.writeChar(offset >>> PAGE_SHIFT);
+        }
+        for (char slot : mSlots) {
+            out.writeChar(slot);
+        }
+        out.flush();
+    }
+
+    /**
+     * Read the binary form written by {@link #write}.
+     *
+     * @throws IOException if it can not be read or is not valid
+     */
+    static PinyinTable read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a pinyin table");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported pinyin table version " + version);
+        }
+        char[] idMap = new char[in.readInt()];
+        byte[] syllable = new byte[256];
+        for (int i = 0; i < idMap.length; i++) {
+            int length = in.readUnsignedByte();
+            in.readFully(syllable, 0, length);
+            int id = SyllablePool.idOf(new String(syllable, 0, length, "US-ASCII"));
+            if (id < 0) {
+                throw new IOException("Unknown syllable in pinyin table");
+            }
+            idMap[i] = (char) id;
+        }
+        int pageCount = in.readInt();
+        if (pageCount < 1 || pageCount > BLOCK_COUNT + 1) {
+            throw new IOException("Bad page count " + pageCount);
+        }
+        int[] blocks = new int[BLOCK_COUNT];
+        for (int block = 0; block < BLOCK_COUNT; block++) {
+            int page = in.readChar();
+            if (page >= pageCount) {
+                throw new IOException("Bad page " + page);
+            }
+            blocks[block] = page << PAGE_SHIFT;
+        }
+        char[] slots = new char[pageCount << PAGE_SHIFT];
+        for (int i = 0; i < slots.length; i++) {
+            int slot = in.readChar();
+            if (slot != 0) {
+                int id = slot & PinyinReading.ID_MASK;
+                int tone = (slot & ~PRESENT) >>> PinyinReading.TONE_SHIFT;
+                if ((slot & PRESENT) == 0 || id >= idMap.length
+                        || tone > PinyinReading.TONE_NEUTRAL) {
+                    throw new IOException("Bad reading " + slot);
+                }
+                slot = PRESENT | (tone << PinyinReading.TONE_SHIFT) | idMap[id];
+            }
+            slots[i] = (char) slot;
+        }
+        return new PinyinTable(blocks, slots);
+    }
+}
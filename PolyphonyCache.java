@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of {@link PinyinHelper#resolvePolyphony(CharSequence)}
+ * results, for workloads that resolve the same texts over and over, such
+ * as the messages of a chat list. A hit costs about a String.equals, so
+ * the cache pays off for repeated texts longer than a name; resolving a
+ * short name again is about as fast as finding it here.
+ *
+ * The cache is set associative: a text can only be stored in one of the
+ * {@link #WAYS} slots of the set its hash selects, and a full set evicts
+ * with the second chance (clock) approximation of LRU. Neither lookups
+ * nor updates lock. Entries are immutable and published with a plain
+ * array store, so racing threads may overwrite each other's new entries;
+ * that costs a later miss, never a wrong result. When the tables in use
+ * change, see {@link PinyinHelper#reloadDictionary} and
+ * {@link PinyinHelper#updateSnapshot}, entries resolved with the old ones
+ * are treated as misses.
+ *
+ * Safe to share between threads.
+ */
+public final class PolyphonyCache {
+
+    /**
+     * Number of slots per set.
+     */
+    public static final int WAYS = 4;
+    /**
+     * Largest capacity, a multiple of {@link #WAYS} that an array can hold.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private final Entry[] mEntries;
+    private final int mSetCount;
+    private final LongAdder mHits = new LongAdder();
+    private final LongAdder mMisses = new LongAdder();
+    private final LongAdder mEvictions = new LongAdder();
+
+    /**
+     * @param capacity max number of cached texts, from 1 to
+     *        {@link #MAX_CAPACITY}; rounded up to a multiple of {@link #WAYS}
+     */
+    public PolyphonyCache(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity " + capacity);
+        }
+        mSetCount = (capacity + WAYS - 1) / WAYS;
+        mEntries = new Entry[mSetCount * WAYS];
+    }
+
+    /**
+     * Like {@link PinyinHelper#resolvePolyphony(CharSequence)}, from the
+     * cache if the text was resolved before.
+     *
+     * @return the reading of each char, null for chars without polyphony;
+     *         an unmodifiable list shared with other callers
+     */
+    public List<String> resolvePolyphony(String text) {
+        final PolyphonyTable table = PinyinHelper.polyphonyTable();
+        final Entry[] entries = mEntries;
+        final int set = setOf(text);
+        for (int i = set; i < set + WAYS; i++) {
+            Entry entry = entries[i];
+            if (entry != null && entry.mTable == table && entry.mText.equals(text)) {
+                if (!entry.mReferenced) {
+                    entry.mReferenced = true;
+                }
+                mHits.increment();
+                return entry.mReadings;
+            }
+        }
+        mMisses.increment();
+        String[] readings = new String[text.length()];
+        PinyinHelper.resolvePolyphony(text, table, readings);
+        Entry entry = new Entry(text, readings, table);
+        store(set, entry);
+        return entry.mReadings;
+    }
+
+    private int setOf(String text) {
+        int hash = text.hashCode();
+        // Use high bits too, String hashes of short CJK texts differ mostly there.
+        hash ^= hash >>> 16;
+        return ((hash & Integer.MAX_VALUE) % mSetCount) * WAYS;
+    }
+
+    /**
+     * Put the entry into a free or stale slot of the set, else into the
+     * first slot not referenced since the last sweep, clearing the
+     * referenced bits passed on the way, else into the first slot of the
+     * set. Each slot is read once, as {@link #clear()} and other stores may
+     * change it at any time.
+     */
+    private void store(int set, Entry entry) {
+        final Entry[] entries = mEntries;
+        for (int i = set; i < set + WAYS; i++) {
+            Entry old = entries[i];
+            if (old == null || old.mTable != entry.mTable) {
+                entries[i] = entry;
+                return;
+            }
+        }
+        int victim = -1;
+        boolean evicted = true;
+        for (int pass = 0; pass < 2 && victim < 0; pass++) {
+            for (int i = set; i < set + WAYS; i++) {
+                Entry old = entries[i];
+                if (old == null || !old.mReferenced) {
+                    victim = i;
+                    evicted = old != null;
+                    break;
+                }
+                old.mReferenced = false;
+            }
+        }
+        if (victim < 0) {
+            // Hits racing with the sweeps set every bit again.
+            victim = set;
+        }
+        entries[victim] = entry;
+        if (evicted) {
+            mEvictions.increment();
+        }
+    }
+
+    /**
+     * Max number of cached texts.
+     */
+    public int getCapacity() {
+        return mEntries.length;
+    }
+
+    /**
+     * Number of cached texts resolved with the dictionary in use. Counts
+     * every slot, so do not call it per lookup.
+     */
+    public int size() {
+        final PolyphonyTable table = PinyinHelper.polyphonyTable();
+        int size = 0;
+        for (Entry entry : mEntries) {
+            if (entry != null && entry.mTable == table) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return mHits.sum();
+    }
+
+    public long getMissCount() {
+        return mMisses.sum();
+    }
+
+    /**
+     * Number of entries dropped to make room, not counting those dropped
+     * by {@link #clear()} or replaced after a dictionary change.
+     */
+    public long getEvictionCount() {
+        return mEvictions.sum();
+    }
+
+    /**
+     * Drop all entries. The counters are kept.
+     */
+    public void clear() {
+        for (int i = 0; i < mEntries.length; i++) {
+            mEntries[i] = null;
+        }
+    }
+
+    private static final class Entry {
+        final String mText;
+        final List<String> mReadings;
+        // Table the text was resolved with.
+        final PolyphonyTable mTable;
+        // Set on a hit, cleared by eviction sweeps; races only blur the
+        // order of eviction.
+        boolean mReferenced;
+
+        Entry(String text, String[] readings, PolyphonyTable table) {
+            mText = text;
+            mReadings = Collections.unmodifiableList(Arrays.asList(readings));
+            mTable = table;
+        }
+    }
+}
@@ -0,0 +1,702 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Generated by PolyphonyDataGenerator from polyphony.txt, family_name.txt
+// and phrases.txt, do not edit. See PolyphonyTable#encode for the format.
+
+package smartisanos.util;
+
+final class PolyphonyData {
+
+    private PolyphonyData(){};
+
+    static final String POLYPHONY_KEYS = ""
+            + "\u4e01\u4e07\u4e50\u4e58\u4e5c\u4e86\u4e9f\u4eb2\u4eb9\u4ec0\u4ec7\u4ed4"
+            + "\u4ee1\u4f1a\u4f20\u4f27\u4f2f\u4f3a\u4f3c\u4f3d\u4f43\u4f5b\u4f97\u4fa5"
+            + "\u4fa7\u4fbf\u4fde\u4fdf\u4fe9\u4ff6\u5018\u5048\u5072\u507b\u508d\u514b"
+            + "\u5176\u5179\u5192\u51af\u51ff\u5228\u5239\u524a\u5261\u5265\u527f\u52b2"
+            + "\u52d2\u5319\u532e\u533a\u5352\u5355\u5357\u535c\u5361\u5382\u53a6\u53c2"
+            + "\u53e5\u53e8\u53ec\u53f6\u5401\u5408\u5413\u5421\u5426\u542d\u5431\u5454"
+            + "\u5457\u5458\u5462\u5471\u5480\u548c\u5496\u54a5\u54af\u54b3\u54bd\u54c6"
+            + "\u54d7\u54e6\u552c\u5541\u555c\u5574\u5581\u558b\u55b3\u55c4\u55d2\u55e8"
+            + "\u5632\u564c\u5671\u5693\u56bc\u56e4\u5708\u571c\u5729\u5730\u5762\u577b"
+            + "\u578c\u57b8\u57cb\u57d4\u580b\u5821\u585e\u58f3\u5927\u592f\u5947\u5951"
+            + "\u5958\u5a1c\u5b5b\u5b71\u5b93\u5bb6\u5bbf\u5c04\u5c06\u5c09\u5c3a\u5c3e"
+            + "\u5c3f\u5c4f\u5c5e\u5c6f\u5cd2\u5cd9\u5ce4\u5d34\u5d41\u5dee\u5df7\u5e62"
+            + "\u5e6c\u5e7f\u5e95\u5ea6\u5ec6\u5f04\u5f39\u5f3a\u5f97\u5fea\u606b\u6076"
+            + "\u614a\u620c\u620f\u6241\u624e\u6252\u625b\u6273\u6298\u62b9\u62c2\u62d3"
+            + "\u62d7\u62e9\u62fe\u634b\u63b8\u63ba\u63d0\u6412\u6469\u64ae\u6512\u6566"
+            + "\u6570\u65bc\u65bf\u66b4\u66dd\u66fe\u671d\u671f\u672f\u6734\u6749\u6753"
+            + "\u6755\u677b\u6793\u679e\u67b8\u67c1\u67cf\u67dc\u67de\u67e5\u680e\u6816"
+            + "\u681d\u681f\u6821\u6838\u6867\u6883\u68f1\u690e\u6911\u6942\u6977\u69db"
+            + "\u69df\u6a21\u6b58\u6b96\u6bb7\u6c13\u6c64\u6c76\u6c88\u6c8c\u6c93\u6ca1"
+            + "\u6cca\u6ccc\u6cf7\u6d17\u6d1e\u6d45\u6d4d\u6d52\u6d5a\u6da1\u6ddc\u6e11"
+            + "\u6e6b\u6e6e\u6eb1\u6eb9\u6eba\u6f2f\u6f66\u6f84\u6fb9\u7011\u7085\u70ae"
+            + "\u70d9\u7118\u712f\u719f\u71a8\u722a\u725f\u7387\u739a\u73a2\u73f2\u753a"
+            + "\u755c\u756a\u759f\u7625\u767e\u7684\u76d6\u76db\u7701\u7719\u772d\u7740"
+            + "\u77dc\u77f3\u780c\u781f\u784c\u788c\u78c5\u7947\u7985\u79cd\u79d8\u79f0"
+            + "\u7a3d\u7b2e\u7b60\u7b84\u7c98\u7ca2\u7cfb\u7dae\u7e41\u7ea2\u7ea4\u7ea5"
+            + "\u7ea6\u7eb6\u7ed9\u7edc\u7ef0\u7efc\u7eff\u7f09\u7f0f\u7f29\u7f2a\u7f34"
+            + "\u7fdf\u800f\u8019\u808b\u80b2\u80d6\u80f2\u80f3\u8109\u811a\u812f\u814a"
+            + "\u8180\u81c2\u81ed\u822c\u8272\u827e\u82a5\u82ab\u82be\u82d5\u82e5\u8304"
+            + "\u8308\u831c\u8336\u8351\u8360\u8364\u8365\u8368\u837c\u838e\u8398\u839e"
+            + "\u83a8\u83c0\u843d\u8457\u845a\u84c2\u84fc\u8513\u851a\u8543\u8584\u85c9"
+            + "\u85cf\u8679\u868c\u86e4\u86fe\u8721\u87ab\u87b2\u8840\u884c\u88e8\u891a"
+            + "\u8983\u89c1\u89c9\u89d2\u89e3\u8bc6\u8bd2\u8bf4\u8bfb\u8c03\u8c0c\u8c37"
+            + "\u8c89\u8d32\u8d3e\u8d5a\u8d84\u8dde\u8e4a\u8e62\u8e72\u8f66\u8f67\u8f92"
+            + "\u8f9f\u8fd8\u8feb\u9002\u9022\u9057\u90a3\u90b2\u90c4\u90c7\u90d7\u90fd"
+            + "\u9147\u9162\u91cd\u929a\u931e\u94a5\u94af\u94bf\u94db\u94e3\u9550\u9561"
+            + "\u9566\u957f\u961a\u963f\u9642\u9646\u964d\u9676\u9697\u96bd\u96c0\u9732"
+            + "\u9753\u9769\u9798\u987f\u9888\u9889\u98a4\u9978\u9987\u9a6e\u9a80\u9a91"
+            + "\u9aa0\u9b32\u9b44\u9c91\u9e1f\u9e44\u9e58\u9e8b\u9efe\u9f50\u9f9f";
+
+    static final String POLYPHONY_KEY_SETS = ""
+            + "\001\002\003\004\005\006\007\010\011\012\013\014"
+            + "\015\016\017\020\021\022\023\024\025\026\027\030"
+            + "\031\032\033\034\035\036\037\u0020\u0021\042\u0023\u0024"
+            + "\u0025\u0026\u0027\u0028\u0029\u002a\u002b\u002c\u002d\u002e\u002f\u0030"
+            + "\u0031\u0032\u0033\u0034\u0035\u0036\u0037\u0038\u0039\u003a\u003b\u003c"
+            + "\u003d\u003e\u003f\u0040\u0041\u0042\u0043\u0044\u0045\u0046\u0047\u0048"
+            + "\u0049\u004a\u004b\u004c\u004d\u004e\u004f\u0050\u0051\u0052\u0053\u0054"
+            + "\u0055\u0056\u0057\u0058\u0059\u005a\u005b\134\u005d\u005e\u005f\u0060"
+            + "\u0061\u0062\u0063\u0064\u0065\u0066\u0067\u0068\u0069\u006a\u006b\u006c"
+            + "\u006d\u006e\u006f\u0070\u0071\u0072\u0073\u0074\u0075\u0076\u0077\u0078"
+            + "\u0079\u007a\u007b\u007c\u007d\u007e\u007f\u0080\u0081\u0082\u0083\u0084"
+            + "\u0085\u0086\u0087\u0088\u0089\u008a\u008b\u008c\u008d\u008e\u008f\u0090"
+            + "\u0091\u0092\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a\u009b\u009c"
+            + "\u009d\u009e\u009f\u00a0\u00a1\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8"
+            + "\u00a9\u00aa\u00ab\u00ac\u00ad\u00ae\u00af\u00b0\u00b1\u00b2\u00b3\u00b4"
+            + "\u00b5\u00b6\u00b7\u00b8\u00b9\u00ba\u00bb\u00bc\u00bd\u00be\u00bf\u00c0"
+            + "\u00c1\u00c2\u00c3\u00c4\u00c5\u00c6\u00c7\u00c8\u00c9\u00ca\u00cb\u00cc"
+            + "\u00cd\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00d8"
+            + "\u00d9\u00da\u00db\u00dc\u00dd\u00de\u00df\u00e0\u00e1\u00e2\u00e3\u00e4"
+            + "\u00e5\u00e6\u00e7\u00e8\u00e9\u00ea\u00eb\u00ec\u00ed\u00ee\u00ef\u00f0"
+            + "\u00f1\u00f2\u00f3\u00f4\u00f5\u00f6\u00f7\u00f8\u00f9\u00fa\u00fb\u00fc"
+            + "\u00fd\u00fe\u00ff\u0100\u0101\u0102\u0103\u0104\u0105\u0106\u0107\u0108"
+            + "\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113\u0114"
+            + "\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f\u0120"
+            + "\u0121\u0122\u0123\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012c"
+            + "\u012d\u012e\u012f\u0130\u0131\u0132\u0133\u0134\u0135\u0136\u0137\u0138"
+            + "\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142\u0143\u0144"
+            + "\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f\u0150"
+            + "\u0151\u0152\u0153\u0154\u0155\u0156\u0157\u0158\u0159\u015a\u015b\u015c"
+            + "\u015d\u015e\u015f\u0160\u0161\u0162\u0163\u0164\u0082\u0165\u0166\u0167"
+            + "\u0168\u0169\u016a\u016b\u016c\u016d\u016e\u016f\u0170\u0171\u0172\u0173"
+            + "\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f"
+            + "\u0180\u0181\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b"
+            + "\u018c\u018d\u018e\u018f\u0190\u0191\u0192\u0193\u0194\u0195\u0196\u0197"
+            + "\u0198\u0199\u019a\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3"
+            + "\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af"
+            + "\u01b0\u01b1\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb"
+            + "\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3\u01c4\u01bb\u01c5";
+
+    static final String POLYPHONY_SETS = ""
+            + "\002\u1049\u1192\u0062\002\002\u415c\u40d5\u0063\001\003\u417f"
+            + "\u40af\u4175\u0032\u0031\001\002\u2026\u4133\u005a\012\002\u40e7"
+            + "\u10d1\u0032\u0032\002\u30b6\u50af\012\u005a\002\u2089\u4106\u005a"
+            + "\012\002\u110c\u410d\u005f\005\002\u20cc\u315e\u0028\u003c\002"
+            + "\u2132\u2134\u0050\024\002\u2029\u210f\u005a\012\002\u3182\u319e"
+            + "\u0032\u0032\002\u1066\u4177\u003c\u0028\002\u4086\u40a4\u005f\005"
+            + "\002\u202d\u4199\u0055\017\002\u1022\u5025\036\u0046\002\u2014"
+            + "\u3006\u005f\005\002\u4032\u413e\036\u0046\002\u4134\u413e\024"
+            + "\u0050\003\u108a\u1061\u210b\u0028\036\036\002\u4045\u214f\u0046"
+            + "\036\002\u205e\u2060\u005a\012\002\u404b\u2153\u0050\024\002"
+            + "\u308d\u2175\u005a\012\002\u401b\u118b\u0061\003\002\u400e\u20fe"
+            + "\u0055\017\002\u4136\u217d\005\u005f\002\u413e\u2106\u0050\024"
+            + "\002\u30b3\u30b5\u005a\012\002\u414e\u402a\u0028\u003c\002\u3149"
+            + "\u2022\u005f\005\002\u4089\u208e\u0046\036\002\u1017\u113e\u0032"
+            + "\u0032\002\u20bd\u30c2\u0028\u003c\002\u4008\u20f8\u005f\005\002"
+            + "\u409c\u109d\u0061\003\002\u2106\u1089\u0063\001\002\u119e\u2032"
+            + "\u005f\005\002\u40c9\u40d5\u0062\002\002\u205c\u2102\u0061\003"
+            + "\002\u2185\u41a5\u005f\005\002\u20f9\u4009\u003c\u0028\002\u112b"
+            + "\u401f\u0032\u0032\002\u1170\u1168\u003c\u0028\002\u412d\u3173\u003c"
+            + "\u0028\002\u1014\u1009\u003c\u0028\002\u308d\u1023\u005a\012\002"
+            + "\u408f\u4090\u003c\u0028\002\u40af\u10b0\u003c\u0028\002\u2027\u5134"
+            + "\u003c\u0028\002\u40a7\u4071\u005f\005\002\u1110\u10f4\u0063\001"
+            + "\002\u21a1\u4035\u005a\012\003\u103c\u2021\u412d\u005a\005\005"
+            + "\002\u20db\u10d9\u0062\002\002\u5014\u3015\u0028\u003c\002\u3097"
+            + "\u3107\u0055\017\002\u3022\u1002\u0063\001\002\u412b\u4165\u0050"
+            + "\024\004\u1018\u1125\u1132\u101d\u004b\003\024\002\002\u4093"
+            + "\u106b\u0061\003\002\u103e\u114a\u0050\024\002\u412f\u418e\012"
+            + "\u005a\002\u4176\u2169\u0062\002\002\u417d\u116e\u0032\u0032\002"
+            + "\u3066\u2079\002\u0062\002\u4165\u4079\u0055\017\002\u300d\u30fd"
+            + "\u003c\u0028\002\u305f\u30fd\u005a\012\002\u2077\u109f\u0028\u003c"
+            + "\002\u1193\u119e\u003c\u0028\002\u103b\u3147\u003c\u0028\002\u500a"
+            + "\u4006\u0050\024\002\u217e\u2180\u0062\002\002\u50de\u20e3\u005a"
+            + "\012\002\u106d\u106c\u0050\024\002\u3093\u31a3\u003c\u0028\003"
+            + "\u2079\u2081\u2088\u005e\002\004\002\u1097\u1061\u0050\024\002"
+            + "\u2047\u4164\u0028\u003c\003\u1066\u3097\u40c1\u0028\u0032\012\002"
+            + "\u209c\u1075\u0055\017\002\u4173\u4176\u003c\u0028\002\u1051\u3027"
+            + "\u005a\012\002\u1082\u1088\u005f\005\002\u2052\u20f3\012\u005a"
+            + "\002\u3081\u4165\u0055\017\002\u118e\u1195\u0032\u0032\002\u402c"
+            + "\u4031\036\u0046\002\u3021\u1148\u0032\u0032\002\u217d\u217b\u0028"
+            + "\u003c\002\u2047\u218a\u005f\005\002\u101f\u118a\u0028\u003c\002"
+            + "\u2000\u412b\u0028\u003c\002\u103a\u4146\u003c\u0028\002\u1075\u107a"
+            + "\u0050\024\002\u2023\u118e\u005f\005\002\u101e\u1026\u003c\u0028"
+            + "\002\u2095\u2170\u0028\u003c\002\u1016\u101f\u0032\u0032\002\u208d"
+            + "\u2095\u0046\036\002\u4050\u2158\u0032\u0032\002\u1111\u4094\u005a"
+            + "\012\002\u2084\u217e\u003c\u0028\002\u215e\u116e\u003c\u0028\002"
+            + "\u4043\u503f\u003c\u0028\002\u4007\u40f7\u003c\u0028\002\u2027\u3043"
+            + "\u003c\u0028\002\u404b\u2153\u0046\036\002\u2084\u417e\036\u0046"
+            + "\002\u20c6\u20c7\u005a\012\002\u4015\u3105\u0032\u0032\002\u400c"
+            + "\u20fc\u0028\u003c\003\u3009\u3015\u4105\u0050\012\012\002\u4128"
+            + "\u1124\u0032\u0032\002\u209c\u410a\u0046\036\002\u403a\u403b\u0061"
+            + "\003\002\u1077\u107b\u005f\005\002\u1089\u2106\005\u005f\002"
+            + "\u4106\u4169\u0061\003\002\u4184\u319a\u003c\u0028\002\u20f0\u40d9"
+            + "\u0028\u003c\002\u400a\u2014\u003c\u0028\002\u2021\u4018\u0050\024"
+            + "\002\u40ce\u2060\u0046\036\002\u108a\u508e\u0063\001\002\u416d"
+            + "\u4141\012\u005a\003\u4130\u4176\u4177\u0062\001\001\002\u108c"
+            + "\u1109\u005a\012\002\u415e\u417d\u005a\012\002\u3027\u3024\u0062"
+            + "\002\002\u315e\u3177\u005f\005\002\u40e6\u1143\u005a\012\002"
+            + "\u3013\u2102\031\u004b\002\u3196\u3136\012\u005a\002\u2158\u119c"
+            + "\u005a\012\002\u404b\u2153\u003c\u0028\002\u4193\u4134\u005a\012"
+            + "\002\u210a\u408d\u0032\u0032\002\u315b\u115e\u0050\024\002\u1099"
+            + "\u418c\u003c\u0028\003\u401f\u1032\u1020\u0046\003\033\002\u4077"
+            + "\u4167\012\u005a\002\u419a\u202e\u0046\036\002\u2029\u403e\u003c"
+            + "\u0028\002\u3070\u1002\u0063\001\002\u3043\u503f\u005f\005\002"
+            + "\u2051\u404d\005\u005f\002\u1071\u315e\u0032\u0032\002\u40eb\u40bc"
+            + "\u0055\017\002\u403c\u2148\u0032\u0032\002\u2109\u408c\u005a\012"
+            + "\002\u203f\u3040\u005a\012\002\u113f\u1194\u003c\u0028\002\u404b"
+            + "\u1153\u0032\u0032\002\u4052\u4163\u0055\017\002\u4108\u410b\u0032"
+            + "\u0032\002\u116e\u106c\u005f\005\002\u4164\u1081\u0062\002\002"
+            + "\u300e\u10fe\u005a\012\002\u118a\u1181\u0050\024\002\u1005\u20f5"
+            + "\u0046\036\002\u209a\u1064\u005a\012\002\u1007\u10f7\u005f\005"
+            + "\002\u2130\u218f\012\u005a\002\u30d5\u10c5\u0050\024\002\u2060"
+            + "\u400d\u0061\003\002\u4146\u4159\017\u0055\002\u3004\u40ea\u003c"
+            + "\u0028\002\u2186\u218b\u0055\017\002\u2134\u4130\u0061\003\002"
+            + "\u30c2\u10c1\u003c\u0028\002\u303c\u412d\u0050\024\003\u1021\u4018"
+            + "\u312d\u005a\005\005\002\u1043\u214e\005\u005f\002\u4008\u20fc"
+            + "\u0032\u0032\002\u20d5\u10c5\u005f\005\002\u1039\u31a5\u0055\017"
+            + "\002\u2036\u3183\u0028\u003c\002\u1050\u404f\u005f\005\002\u413d"
+            + "\u4136\003\u0061\002\u217d\u1163\u005a\012\002\u20ba\u217c\u0032"
+            + "\u0032\002\u4009\u4105\u0062\002\002\u4105\u4009\u0050\024\002"
+            + "\u201e\u1189\u0055\017\002\u2023\u118e\u003c\u0028\002\u1106\u1089"
+            + "\u0062\002\002\u4136\u2196\u0061\003\003\u3105\u4103\u20ff\u0046"
+            + "\012\024\002\u112d\u112b\u0046\036\002\u1010\u212f\u0028\u003c"
+            + "\002\u4043\u4051\u0032\u0032\002\u3029\u30ea\u0032\u0032\002\u304c"
+            + "\u3196\u003c\u0028\002\u1033\u119f\u003c\u0028\002\u306b\u3093\u0046"
+            + "\036\002\u4051\u2159\u0032\u0032\002\u3006\u2014\u005a\012\002"
+            + "\u4071\u3093\u0061\003\002\u41a5\u418a\u003c\u0028\002\u201f\u118a"
+            + "\u0061\003\002\u40b2\u417f\u0050\024\002\u1106\u1164\u005f\005"
+            + "\002\u106d\u40a9\u0032\u0032\002\u100b\u1013\u0032\u0032\002\u408d"
+            + "\u4168\017\u0055\002\u2079\u2081\u005a\012\002\u4071\u4086\u003c"
+            + "\u0028\002\u3152\u4049\u0046\036\002\u20b1\u20b9\u0050\024\002"
+            + "\u119b\u202f\u0050\024\002\u100a\u20fd\u0032\u0032\002\u201f\u118a"
+            + "\u003c\u0028\002\u3098\u108e\u0061\003\002\u3099\u408b\u0032\u0032"
+            + "\002\u1012\u1013\u003c\u0028\002\u20d5\u20d7\u0050\024\002\u102b"
+            + "\u116e\u0032\u0032\002\u2193\u5134\u0061\003\002\u1173\u1178\012"
+            + "\u005a\002\u20c8\u20cd\u0046\036\002\u1149\u112e\u0061\003\002"
+            + "\u415f\u20cc\u005a\012\002\u3132\u2025\u005f\005\002\u4050\u4199"
+            + "\u005f\005\002\u4146\u203a\u003c\u0028\002\u20cb\u40d5\u0050\024"
+            + "\002\u2014\u1103\u0055\017\002\u40ce\u400d\u0046\036\002\u20bc"
+            + "\u113a\u0046\036\002\u3166\u3164\002\u0062\002\u404b\u2153\u0063"
+            + "\001\002\u3108\u108b\u0062\002\002\u40a4\u4086\u0032\u0032\002"
+            + "\u3081\u316e\u003c\u0028\002\u4096\u4171\u0050\024\002\u1161\u1073"
+            + "\u005a\012\002\u20fc\u2102\u0032\u0032\002\u30cf\u2133\u0046\036"
+            + "\002\u308d\u110f\u0028\u003c\002\u1173\u1178\u005a\012\002\u210c"
+            + "\u1191\u0032\u0032\002\u4128\u4145\u0032\u0032\002\u40e3\u40e6\u0061"
+            + "\003\002\u40c1\u4146\u0032\u0032\002\u20b6\u30ae\u0046\036\002"
+            + "\u2026\u4042\u0055\017\002\u403c\u2148\u0046\036\002\u4105\u4009"
+            + "\u005f\005\002\u4071\u3091\036\u0046\002\u40f9\u1009\u005a\012"
+            + "\002\u40ae\u40c1\u005a\012\002\u114a\u403e\u0032\u0032\002\u1023"
+            + "\u219d\u0046\036\002\u2136\u2135\u0050\024\002\u417d\u4180\036"
+            + "\u0046\002\u318e\u3197\u003c\u0028\002\u20d6\u40d7\u005a\012\002"
+            + "\u40c2\u4138\u0028\u003c\002\u4022\u2174\u0032\u0032\002\u1012\u105b"
+            + "\u0032\u0032\002\u1086\u2087\u003c\u0028\002\u1152\u1049\u0032\u0032"
+            + "\002\u402a\u416e\u003c\u0028\002\u1058\u10f7\u005f\005\002\u40f2"
+            + "\u4175\u0050\024\002\u4020\u2039\u0032\u0032\002\u3006\u2014\u0063"
+            + "\001\002\u4043\u503f\003\u0061\002\u4062\u3066\u0061\003\002"
+            + "\u2026\u4133\017\u0055\002\u316b\u3133\017\u0055\002\u2177\u4027"
+            + "\u0046\036\002\u1143\u1086\u0046\036\002\u218e\u219d\u003c\u0028"
+            + "\003\u108f\u210c\u106f\u005a\005\005\002\u2134\u403c\u0061\003"
+            + "\002\u4106\u410b\u005f\005\002\u318a\u31a5\u005a\012\002\u4066"
+            + "\u40c1\u0050\024\002\u40ba\u40be\012\u005a\002\u4008\u20f8\u0046"
+            + "\036\002\u2106\u3193\u003c\u0028\002\u2021\u412d\u0050\024\002"
+            + "\u3194\u2028\u0062\002\002\u40ce\u400d\u005f\005\002\u4025\u1026"
+            + "\024\u0050\002\u3106\u1089\024\u0050\002\u2186\u21a5\u0032\u0032"
+            + "\002\u2180\u1096\u003c\u0028\003\u100a\u300d\u20fd\036\u0028\036"
+            + "\002\u118c\u20e4\u003c\u0028\002\u2032\u119e\u0028\u003c\002\u4089"
+            + "\u4164\012\u005a\002\u410d\u3106\u0028\u003c\002\u2058\u2103\u0063"
+            + "\001\002\u207f\u106a\u0063\001\002\u1166\u4108\u0050\024\002"
+            + "\u1066\u2079\u0028\u003c\002\u117f\u1175\u005f\005\002\u20c0\u106f"
+            + "\u005f\005\002\u3067\u3089\u0055\017\002\u40c1\u40ae\u005f\005"
+            + "\002\u4031\u1023\u005a\012\002\u4189\u119f\005\u005f\002\u40c2"
+            + "\u40be\u0061\003\002\u1089\u1106\u005a\012\002\u400e\u20fe\u0032"
+            + "\u0032\002\u1145\u4141\u0061\003\003\u20d6\u40d4\u40d0\u0028\036"
+            + "\036\002\u308d\u219d\u0062\002\002\u218b\u2043\u0050\024\002"
+            + "\u2056\u40da\u0032\u0032\002\u4005\u20f5\u003c\u0028\002\u40b0\u10af"
+            + "\u005f\005\002\u417d\u1175\u0062\002\002\u20f7\u40f8\005\u005f"
+            + "\002\u3062\u3075\u0028\u003c\002\u1061\u1066\012\u005a\002\u40d5"
+            + "\u40c6\012\u005a\002\u308d\u2095\u0061\003\002\u2105\u3060\u0032"
+            + "\u0032\002\u40aa\u1164\u0061\003\002\u3008\u20f8\u0046\036\002"
+            + "\u400d\u500a\u005a\012\002\u4029\u416d\u0055\017\003\u1007\u1014"
+            + "\u20f7\u005f\003\002\002\u4128\u312c\u0055\017\002\u4001\u4177"
+            + "\u005f\005\002\u408e\u4062\u0055\017\002\u2173\u217e\u0028\u003c"
+            + "\002\u405a\u2060\u0032\u0032\002\u212f\u2150\u003c\u0028\002\u4122"
+            + "\u3117\u0061\003\002\u108a\u210b\012\u005a\002\u2032\u319e\u003c"
+            + "\u0028\002\u4108\u1164\u0050\024\002\u201f\u118a\u0063\001\002"
+            + "\u214e\u2177\u0032\u0032\002\u4089\u2106\u0032\u0032\002\u1087\u1171"
+            + "\u005f\005\002\u216b\u2179\u0032\u0032\002\u2108\u2171\u0032\u0032"
+            + "\002\u201f\u2155\005\u005f\002\u1145\u112b\u0028\u003c\002\u1132"
+            + "\u116a\u0032\u0032\002\u315c\u306f\u0032\u0032\002\u40ad\u20b5\u0032"
+            + "\u0032\002\u315c\u417d\u0046\036\003\u40c1\u40ae\u40aa\u0055\005"
+            + "\012\003\u4196\u518f\u219d\u003c\012\036\002\u4132\u4118\u003c"
+            + "\u0028\002\u40ce\u20d3\u0028\u003c\002\u30b6\u40be\u005a\012\002"
+            + "\u40c7\u415c\u0046\036\002\u1058\u1014\u005a\012\002\u2009\u2014"
+            + "\u003c\u0028\002\u408e\u2089\u003c\u0028\002\u2019\u4184\u004b\031"
+            + "\002\u207f\u408c\u005f\005\002\u4008\u400c\u0050\024\002\u2066"
+            + "\u2074\u0032\u0032\002\u2052\u3177\u0061\003\002\u40aa\u418a\u0062"
+            + "\002\002\u4134\u118f\u003c\u0028\002\u2047\u4193\u0028\u003c\002"
+            + "\u4170\u3169\u0050\024\003\u216b\u2077\u207c\u003c\u0026\002\002"
+            + "\u400d\u20fd\u0046\036\002\u3196\u302a\024\u0050\002\u2148\u210c"
+            + "\u003c\u0028\002\u408b\u4166\u0062\002\002\u408d\u2095\036\u0046"
+            + "\002\u308d\u2095\u0050\024\002\u308e\u4169\u005a\012\002\u2134"
+            + "\u4193\u0061\003\002\u403b\u2177\036\u0046\002\u413b\u113d\003"
+            + "\u0061\002\u204d\u404c\u0061\003\002\u2150\u4046\u003c\u0028\002"
+            + "\u2025\u4132\u0046\036\002\u306c\u417d\u0061\003\003\u2079\u2078"
+            + "\u40d5\u0028\u0032\012\002\u100b\u400d\u003c\u0028\002\u308a\u306c"
+            + "\u0050\024\002\u4199\u41a2\u0061\003\002\u410b\u1093\u0046\036"
+            + "\002\u40b2\u40c1\u0032\u0032\002\u1106\u1164\u0028\u003c\002\u2043"
+            + "\u2193\u0032\u0032\002\u1050\u2038\u0061\003\002\u1024\u1093\u0061"
+            + "\003\002\u218a\u4172\036\u0046\002\u115f\u1180\u0046\036\002"
+            + "\u400d\u40fd\u0028\u003c\002\u2075\u2084\u004b\031\002\u30f6\u4103"
+            + "\005\u005f\002\u4134\u40a9\u0063\001\003\u205c\u20f8\u20fc\u0060"
+            + "\002\002\002\u2177\u415e\u0062\002\003\u40d9\u40df\u20f0\u0055"
+            + "\015\002\002\u400d\u400e\u0050\024\002\u410b\u4164\u003c\u0028"
+            + "\002\u2084\u2171\u0032\u0032\002\u1164\u1027\u0046\036\002\u104c"
+            + "\u104d\u0046\036\002\u2039\u4183\u0028\u003c\002\u41a5\u4035\u0028"
+            + "\u003c\002\u2028\u4194\u0023\u0041\003\u2150\u4046\u2175\036\u0028"
+            + "\036\002\u2030\u404f\u0032\u0032\002\u4175\u417f\u0050\024\002"
+            + "\u3005\u20f5\u005a\012\002\u4045\u214f\u0032\u0032\002\u1026\u103d"
+            + "\u0028\u003c\002\u3164\u3166\u0050\024\002\u3065\u4078\u0046\036"
+            + "\002\u2148\u216a\u0032\u0032\002\u1050\u404f\u0032\u0032\002\u2022"
+            + "\u318d\u0041\u0023\002\u4099\u3076\u0046\036\002\u1000\u1052\u0055"
+            + "\017\003\u100a\u20fd\u1103\u0032\036\024\002\u40be\u40ba\u0061"
+            + "\003\002\u408c\u2167\u0055\017\002\u214a\u2175\u0061\003\002"
+            + "\u315e\u20a7\u0028\u003c\002\u4094\u4096\u0046\036\002\u4112\u310a"
+            + "\u005a\012\002\u40be\u40bd\u0050\024\002\u4090\u40b5\036\u0046"
+            + "\002\u2066\u2089\u0062\002\002\u410a\u112f\u005a\012\002\u4050"
+            + "\u204d\u0062\002\002\u3069\u3090\012\u005a\002\u2169\u208e\u0032"
+            + "\u0032\002\u4021\u418c\u0050\024\002\u1066\u50af\u0032\u0032\002"
+            + "\u101f\u118a\u0032\u0032\002\u2159\u4051\u0050\024\002\u403b\u2147"
+            + "\u0028\u003c\002\u2106\u4089\u0062\002\002\u1010\u40ff\u0028\u003c"
+            + "\002\u40b2\u2066\u0032\u0032\002\u4103\u4159\u005f\005\002\u1071"
+            + "\u2169\u005a\012\002\u30e6\u3046\u0062\002\002\u2081\u306c\u0046"
+            + "\036\002\u306c\u2081\u0032\u0032\002\u20ce\u20cb\u005a\012\002"
+            + "\u30d2\u30cf\u0032\u0032\003\u1096\u1071\u110f\005\u005d\002";
+
+    static final String FAMILY_NAME_KEYS = ""
+            + "\u4e01\u4e07\u4e50\u4e5c\u4ec7\u4f1a\u4f20\u4fbf\u51af\u5239\u533a\u5355"
+            + "\u5361\u53e5\u53ec\u53f6\u5401\u5408\u5708\u5947\u5bbf\u5c06\u5c09\u5e7f"
+            + "\u5f3a\u6298\u63d0\u65bc\u66b4\u66fe\u671d\u67e5\u6821\u6c64\u6c76\u6c88"
+            + "\u7085\u7387\u76d6\u76db\u7701\u772d\u77f3\u79cd\u79d8\u7a3d\u7c98\u7e41"
+            + "\u7f34\u7fdf\u800f\u827e\u8398\u851a\u85cf\u884c\u891a\u8983\u89c1\u89e3"
+            + "\u8c0c\u8d3e\u8f66\u8f67\u9022\u90c4\u90c7\u90d7\u9561\u961a\u963f\u964d"
+            + "\u9676\u9697\u9889\u9e1f\u9f50";
+
+    static final String FAMILY_NAME_KEY_SETS = ""
+            + "\001\002\003\004\005\006\007\010\011\012\013\014"
+            + "\015\016\017\020\021\022\023\024\025\026\027\030"
+            + "\031\032\033\034\035\036\037\u0020\u0021\042\u0023\u0024"
+            + "\u0025\u0026\u0027\u0028\u0029\u002a\u002b\u002c\u002d\u002e\u002f\u0030"
+            + "\u0031\u0032\u0033\u0034\u0035\u0036\u0037\u0038\u0039\u003a\u003b\u003c"
+            + "\u003d\u003e\u003f\u0040\u0041\u0042\u0043\u0044\u0045\u0046\u0047\u0048"
+            + "\u0049\u004a\u004b\u004c\u004d";
+
+    static final String FAMILY_NAME_SETS = ""
+            + "\002\u1049\u1192\u0062\002\002\u415c\u40d5\u0063\001\002\u417f"
+            + "\u40af\u003c\u0028\002\u40e7\u10d1\u0050\024\002\u2029\u210f\012"
+            + "\u005a\002\u4086\u40a4\036\u0046\002\u202d\u4199\u003c\u0028\002"
+            + "\u400e\u20fe\036\u0046\002\u205c\u2102\u0062\002\002\u112b\u401f"
+            + "\u0032\u0032\002\u1110\u10f4\005\u005f\002\u103c\u412d\001\u0063"
+            + "\002\u3097\u3107\u0032\u0032\002\u4093\u106b\u0028\u003c\002\u418e"
+            + "\u412f\012\u005a\002\u4176\u2169\u0063\001\002\u417d\u116e\u0032"
+            + "\u0032\002\u3066\u2079\036\u0046\002\u1111\u4094\036\u0046\002"
+            + "\u1089\u2106\u003c\u0028\002\u416d\u4141\036\u0046\002\u108c\u1109"
+            + "\u0046\036\002\u415e\u417d\u003c\u0028\002\u3070\u1002\u0063\001"
+            + "\002\u2109\u408c\u005a\012\002\u2130\u218f\u0046\036\002\u1043"
+            + "\u214e\024\u0050\002\u217d\u1163\u003c\u0028\002\u4009\u4105\u0032"
+            + "\u0032\002\u201e\u1189\005\u005f\002\u2023\u118e\u005a\012\002"
+            + "\u118a\u201f\u005f\005\002\u408d\u4168\u0028\u003c\002\u1149\u112e"
+            + "\u0062\002\002\u415f\u20cc\u003c\u0028\002\u3132\u2025\u0063\001"
+            + "\002\u4071\u3091\u003c\u0028\002\u40c2\u4138\036\u0046\002\u3066"
+            + "\u4062\u0046\036\002\u2026\u4133\024\u0050\002\u316b\u3133\u0028"
+            + "\u003c\002\u1143\u1086\u0046\036\002\u2134\u403c\u0063\001\002"
+            + "\u3194\u2028\012\u005a\002\u40ce\u400d\024\u0050\002\u3106\u1089"
+            + "\024\u0050\002\u118c\u20e4\u0028\u003c\002\u2058\u2103\012\u005a"
+            + "\002\u308d\u219d\036\u0046\002\u218b\u2043\u0050\024\002\u2056"
+            + "\u40da\u0032\u0032\002\u4001\u4177\u005f\005\002\u1132\u116a\u0046"
+            + "\036\002\u417d\u415e\u003c\u0028\002\u2019\u4184\u0028\u003c\002"
+            + "\u216b\u2077\u0032\u0032\002\u3196\u302a\024\u0050\002\u210c\u2148"
+            + "\u0046\036\002\u408b\u4166\u0032\u0032\002\u4169\u308e\u005f\005"
+            + "\002\u2025\u4132\u003c\u0028\002\u308a\u306c\u0063\001\002\u1024"
+            + "\u1093\u0063\001\002\u218a\u4172\u0028\u003c\002\u205c\u20f8\u0032"
+            + "\u0032\002\u410b\u4164\u0046\036\002\u2084\u2171\u003c\u0028\002"
+            + "\u1164\u1027\u0032\u0032\002\u2148\u216a\u003c\u0028\002\u4099\u3076"
+            + "\u0050\024\002\u1000\u1052\u0050\024\002\u408c\u2167\u003c\u0028"
+            + "\002\u214a\u2175\u0062\002\002\u315e\u20a7\u0046\036\002\u2169"
+            + "\u208e\u003c\u0028\002\u30e6\u3046\u0032\u0032\002\u2106\u4089\u0062"
+            + "\002";
+
+    static final String PHRASES = ""
+            + "\u94f6\u884c\u0020\u0059\u0049\u004e\u0020\u0048\u0041\u004e\u0047\012"
+            + "\u884c\u4e1a\u0020\u0048\u0041\u004e\u0047\u0020\u0059\u0045\012\u884c"
+            + "\u957f\u0020\u0048\u0041\u004e\u0047\u0020\u005a\u0048\u0041\u004e\u0047"
+            + "\012\u884c\u60c5\u0020\u0048\u0041\u004e\u0047\u0020\u0051\u0049\u004e"
+            + "\u0047\012\u5185\u884c\u0020\u004e\u0045\u0049\u0020\u0048\u0041\u004e"
+            + "\u0047\012\u5916\u884c\u0020\u0057\u0041\u0049\u0020\u0048\u0041\u004e"
+            + "\u0047\012\u6392\u884c\u0020\u0050\u0041\u0049\u0020\u0048\u0041\u004e"
+            + "\u0047\012\u9053\u884c\u0020\u0044\u0041\u004f\u0020\u0048\u0045\u004e"
+            + "\u0047\012\u884c\u8d70\u0020\u0058\u0049\u004e\u0047\u0020\u005a\u004f"
+            + "\u0055\012\u884c\u4e3a\u0020\u0058\u0049\u004e\u0047\u0020\u0057\u0045"
+            + "\u0049\012\u884c\u653f\u0020\u0058\u0049\u004e\u0047\u0020\u005a\u0048"
+            + "\u0045\u004e\u0047\012\u884c\u4eba\u0020\u0058\u0049\u004e\u0047\u0020"
+            + "\u0052\u0045\u004e\012\u884c\u674e\u0020\u0058\u0049\u004e\u0047\u0020"
+            + "\u004c\u0049\012\u8fdb\u884c\u0020\u004a\u0049\u004e\u0020\u0058\u0049"
+            + "\u004e\u0047\012\u53d1\u884c\u0020\u0046\u0041\u0020\u0058\u0049\u004e"
+            + "\u0047\012\u65c5\u884c\u0020\u004c\u0056\u0020\u0058\u0049\u004e\u0047"
+            + "\012\u6d41\u884c\u0020\u004c\u0049\u0055\u0020\u0058\u0049\u004e\u0047"
+            + "\012\u81ea\u884c\u8f66\u0020\u005a\u0049\u0020\u0058\u0049\u004e\u0047"
+            + "\u0020\u0043\u0048\u0045\012\u957f\u5927\u0020\u005a\u0048\u0041\u004e"
+            + "\u0047\u0020\u0044\u0041\012\u957f\u8f88\u0020\u005a\u0048\u0041\u004e"
+            + "\u0047\u0020\u0042\u0045\u0049\012\u6210\u957f\u0020\u0043\u0048\u0045"
+            + "\u004e\u0047\u0020\u005a\u0048\u0041\u004e\u0047\012\u751f\u957f\u0020"
+            + "\u0053\u0048\u0045\u004e\u0047\u0020\u005a\u0048\u0041\u004e\u0047\012"
+            + "\u589e\u957f\u0020\u005a\u0045\u004e\u0047\u0020\u005a\u0048\u0041\u004e"
+            + "\u0047\012\u6821\u957f\u0020\u0058\u0049\u0041\u004f\u0020\u005a\u0048"
+            + "\u0041\u004e\u0047\012\u5e02\u957f\u0020\u0053\u0048\u0049\u0020\u005a"
+            + "\u0048\u0041\u004e\u0047\012\u53bf\u957f\u0020\u0058\u0049\u0041\u004e"
+            + "\u0020\u005a\u0048\u0041\u004e\u0047\012\u90e8\u957f\u0020\u0042\u0055"
+            + "\u0020\u005a\u0048\u0041\u004e\u0047\012\u5bb6\u957f\u0020\u004a\u0049"
+            + "\u0041\u0020\u005a\u0048\u0041\u004e\u0047\012\u957f\u5ea6\u0020\u0043"
+            + "\u0048\u0041\u004e\u0047\u0020\u0044\u0055\012\u957f\u57ce\u0020\u0043"
+            + "\u0048\u0041\u004e\u0047\u0020\u0043\u0048\u0045\u004e\u0047\012\u957f"
+            + "\u6c5f\u0020\u0043\u0048\u0041\u004e\u0047\u0020\u004a\u0049\u0041\u004e"
+            + "\u0047\012\u957f\u671f\u0020\u0043\u0048\u0041\u004e\u0047\u0020\u0051"
+            + "\u0049\012\u957f\u4e45\u0020\u0043\u0048\u0041\u004e\u0047\u0020\u004a"
+            + "\u0049\u0055\012\u957f\u77ed\u0020\u0043\u0048\u0041\u004e\u0047\u0020"
+            + "\u0044\u0055\u0041\u004e\012\u5ef6\u957f\u0020\u0059\u0041\u004e\u0020"
+            + "\u0043\u0048\u0041\u004e\u0047\012\u7279\u957f\u0020\u0054\u0045\u0020"
+            + "\u0043\u0048\u0041\u004e\u0047\012\u64c5\u957f\u0020\u0053\u0048\u0041"
+            + "\u004e\u0020\u0043\u0048\u0041\u004e\u0047\012\u91cd\u8981\u0020\u005a"
+            + "\u0048\u004f\u004e\u0047\u0020\u0059\u0041\u004f\012\u91cd\u91cf\u0020"
+            + "\u005a\u0048\u004f\u004e\u0047\u0020\u004c\u0049\u0041\u004e\u0047\012"
+            + "\u91cd\u70b9\u0020\u005a\u0048\u004f\u004e\u0047\u0020\u0044\u0049\u0041"
+            + "\u004e\012\u4e25\u91cd\u0020\u0059\u0041\u004e\u0020\u005a\u0048\u004f"
+            + "\u004e\u0047\012\u5c0a\u91cd\u0020\u005a\u0055\u004e\u0020\u005a\u0048"
+            + "\u004f\u004e\u0047\012\u4f53\u91cd\u0020\u0054\u0049\u0020\u005a\u0048"
+            + "\u004f\u004e\u0047\012\u91cd\u65b0\u0020\u0043\u0048\u004f\u004e\u0047"
+            + "\u0020\u0058\u0049\u004e\012\u91cd\u590d\u0020\u0043\u0048\u004f\u004e"
+            + "\u0047\u0020\u0046\u0055\012\u91cd\u5e86\u0020\u0043\u0048\u004f\u004e"
+            + "\u0047\u0020\u0051\u0049\u004e\u0047\012\u91cd\u53e0\u0020\u0043\u0048"
+            + "\u004f\u004e\u0047\u0020\u0044\u0049\u0045\012\u671d\u4ee3\u0020\u0043"
+            + "\u0048\u0041\u004f\u0020\u0044\u0041\u0049\012\u671d\u9c9c\u0020\u0043"
+            + "\u0048\u0041\u004f\u0020\u0058\u0049\u0041\u004e\012\u671d\u5411\u0020"
+            + "\u0043\u0048\u0041\u004f\u0020\u0058\u0049\u0041\u004e\u0047\012\u738b"
+            + "\u671d\u0020\u0057\u0041\u004e\u0047\u0020\u0043\u0048\u0041\u004f\012"
+            + "\u671d\u9633\u533a\u0020\u0043\u0048\u0041\u004f\u0020\u0059\u0041\u004e"
+            + "\u0047\u0020\u0051\u0055\012\u671d\u6c14\u0020\u005a\u0048\u0041\u004f"
+            + "\u0020\u0051\u0049\012\u4eca\u671d\u0020\u004a\u0049\u004e\u0020\u005a"
+            + "\u0048\u0041\u004f\012\u897f\u85cf\u0020\u0058\u0049\u0020\u005a\u0041"
+            + "\u004e\u0047\012\u85cf\u65cf\u0020\u005a\u0041\u004e\u0047\u0020\u005a"
+            + "\u0055\012\u5b9d\u85cf\u0020\u0042\u0041\u004f\u0020\u005a\u0041\u004e"
+            + "\u0047\012\u6536\u85cf\u0020\u0053\u0048\u004f\u0055\u0020\u0043\u0041"
+            + "\u004e\u0047\012\u9690\u85cf\u0020\u0059\u0049\u004e\u0020\u0043\u0041"
+            + "\u004e\u0047\012\u8eb2\u85cf\u0020\u0044\u0055\u004f\u0020\u0043\u0041"
+            + "\u004e\u0047\012\u548c\u5e73\u0020\u0048\u0045\u0020\u0050\u0049\u004e"
+            + "\u0047\012\u6696\u548c\u0020\u004e\u0055\u0041\u004e\u0020\u0048\u0055"
+            + "\u004f\012\u548c\u9762\u0020\u0048\u0055\u004f\u0020\u004d\u0049\u0041"
+            + "\u004e\012\u548c\u724c\u0020\u0048\u0055\u0020\u0050\u0041\u0049\012"
+            + "\u4f1a\u8ba1\u0020\u004b\u0055\u0041\u0049\u0020\u004a\u0049\012\u5f00"
+            + "\u4f1a\u0020\u004b\u0041\u0049\u0020\u0048\u0055\u0049\012\u4f1a\u8bae"
+            + "\u0020\u0048\u0055\u0049\u0020\u0059\u0049\012\u793e\u4f1a\u0020\u0053"
+            + "\u0048\u0045\u0020\u0048\u0055\u0049\012\u673a\u4f1a\u0020\u004a\u0049"
+            + "\u0020\u0048\u0055\u0049\012\u4f20\u8bb0\u0020\u005a\u0048\u0055\u0041"
+            + "\u004e\u0020\u004a\u0049\012\u81ea\u4f20\u0020\u005a\u0049\u0020\u005a"
+            + "\u0048\u0055\u0041\u004e\012\u6c34\u6d52\u4f20\u0020\u0053\u0048\u0055"
+            + "\u0049\u0020\u0048\u0055\u0020\u005a\u0048\u0055\u0041\u004e\012\u4f20"
+            + "\u8bf4\u0020\u0043\u0048\u0055\u0041\u004e\u0020\u0053\u0048\u0055\u004f"
+            + "\012\u4f20\u7edf\u0020\u0043\u0048\u0055\u0041\u004e\u0020\u0054\u004f"
+            + "\u004e\u0047\012\u5ba3\u4f20\u0020\u0058\u0055\u0041\u004e\u0020\u0043"
+            + "\u0048\u0055\u0041\u004e\012\u8c03\u6574\u0020\u0054\u0049\u0041\u004f"
+            + "\u0020\u005a\u0048\u0045\u004e\u0047\012\u7a7a\u8c03\u0020\u004b\u004f"
+            + "\u004e\u0047\u0020\u0054\u0049\u0041\u004f\012\u534f\u8c03\u0020\u0058"
+            + "\u0049\u0045\u0020\u0054\u0049\u0041\u004f\012\u8c03\u76ae\u0020\u0054"
+            + "\u0049\u0041\u004f\u0020\u0050\u0049\012\u8c03\u67e5\u0020\u0044\u0049"
+            + "\u0041\u004f\u0020\u0043\u0048\u0041\012\u8c03\u52a8\u0020\u0044\u0049"
+            + "\u0041\u004f\u0020\u0044\u004f\u004e\u0047\012\u58f0\u8c03\u0020\u0053"
+            + "\u0048\u0045\u004e\u0047\u0020\u0044\u0049\u0041\u004f\012\u5355\u8c03"
+            + "\u0020\u0044\u0041\u004e\u0020\u0044\u0049\u0041\u004f\012\u8bed\u8c03"
+            + "\u0020\u0059\u0055\u0020\u0044\u0049\u0041\u004f\012\u7761\u89c9\u0020"
+            + "\u0053\u0048\u0055\u0049\u0020\u004a\u0049\u0041\u004f\012\u5348\u89c9"
+            + "\u0020\u0057\u0055\u0020\u004a\u0049\u0041\u004f\012\u89c9\u5f97\u0020"
+            + "\u004a\u0055\u0045\u0020\u0044\u0045\012\u611f\u89c9\u0020\u0047\u0041"
+            + "\u004e\u0020\u004a\u0055\u0045\012\u81ea\u89c9\u0020\u005a\u0049\u0020"
+            + "\u004a\u0055\u0045\012\u53d1\u89c9\u0020\u0046\u0041\u0020\u004a\u0055"
+            + "\u0045\012\u6548\u7387\u0020\u0058\u0049\u0041\u004f\u0020\u004c\u0056"
+            + "\012\u6982\u7387\u0020\u0047\u0041\u0049\u0020\u004c\u0056\012\u901f"
+            + "\u7387\u0020\u0053\u0055\u0020\u004c\u0056\012\u9891\u7387\u0020\u0050"
+            + "\u0049\u004e\u0020\u004c\u0056\012\u6bd4\u7387\u0020\u0042\u0049\u0020"
+            + "\u004c\u0056\012\u7387\u5148\u0020\u0053\u0048\u0055\u0041\u0049\u0020"
+            + "\u0058\u0049\u0041\u004e\012\u76f4\u7387\u0020\u005a\u0048\u0049\u0020"
+            + "\u0053\u0048\u0055\u0041\u0049\012\u5766\u7387\u0020\u0054\u0041\u004e"
+            + "\u0020\u0053\u0048\u0055\u0041\u0049\012\u7edf\u7387\u0020\u0054\u004f"
+            + "\u004e\u0047\u0020\u0053\u0048\u0055\u0041\u0049\012\u9996\u90fd\u0020"
+            + "\u0053\u0048\u004f\u0055\u0020\u0044\u0055\012\u6210\u90fd\u0020\u0043"
+            + "\u0048\u0045\u004e\u0047\u0020\u0044\u0055\012\u90fd\u5e02\u0020\u0044"
+            + "\u0055\u0020\u0053\u0048\u0049\012\u90fd\u662f\u0020\u0044\u004f\u0055"
+            + "\u0020\u0053\u0048\u0049\012\u5168\u90fd\u0020\u0051\u0055\u0041\u004e"
+            + "\u0020\u0044\u004f\u0055\012\u6570\u5b66\u0020\u0053\u0048\u0055\u0020"
+            + "\u0058\u0055\u0045\012\u6570\u636e\u0020\u0053\u0048\u0055\u0020\u004a"
+            + "\u0055\012\u6570\u5b57\u0020\u0053\u0048\u0055\u0020\u005a\u0049\012"
+            + "\u6570\u91cf\u0020\u0053\u0048\u0055\u0020\u004c\u0049\u0041\u004e\u0047"
+            + "\012\u6570\u89c1\u4e0d\u9c9c\u0020\u0053\u0048\u0055\u004f\u0020\u004a"
+            + "\u0049\u0041\u004e\u0020\u0042\u0055\u0020\u0058\u0049\u0041\u004e\012"
+            + "\u7701\u4efd\u0020\u0053\u0048\u0045\u004e\u0047\u0020\u0046\u0045\u004e"
+            + "\012\u8282\u7701\u0020\u004a\u0049\u0045\u0020\u0053\u0048\u0045\u004e"
+            + "\u0047\012\u7701\u7565\u0020\u0053\u0048\u0045\u004e\u0047\u0020\u004c"
+            + "\u0056\u0045\012\u53cd\u7701\u0020\u0046\u0041\u004e\u0020\u0058\u0049"
+            + "\u004e\u0047\012\u4e0d\u7701\u4eba\u4e8b\u0020\u0042\u0055\u0020\u0058"
+            + "\u0049\u004e\u0047\u0020\u0052\u0045\u004e\u0020\u0053\u0048\u0049\012"
+            + "\u8fd8\u662f\u0020\u0048\u0041\u0049\u0020\u0053\u0048\u0049\012\u8fd8"
+            + "\u6709\u0020\u0048\u0041\u0049\u0020\u0059\u004f\u0055\012\u5f52\u8fd8"
+            + "\u0020\u0047\u0055\u0049\u0020\u0048\u0055\u0041\u004e\012\u8fd8\u94b1"
+            + "\u0020\u0048\u0055\u0041\u004e\u0020\u0051\u0049\u0041\u004e\012\u507f"
+            + "\u8fd8\u0020\u0043\u0048\u0041\u004e\u0047\u0020\u0048\u0055\u0041\u004e"
+            + "\012\u8fd8\u539f\u0020\u0048\u0055\u0041\u004e\u0020\u0059\u0055\u0041"
+            + "\u004e\012\u9000\u8fd8\u0020\u0054\u0055\u0049\u0020\u0048\u0055\u0041"
+            + "\u004e\012\u5355\u4f4d\u0020\u0044\u0041\u004e\u0020\u0057\u0045\u0049"
+            + "\012\u7b80\u5355\u0020\u004a\u0049\u0041\u004e\u0020\u0044\u0041\u004e"
+            + "\012\u540d\u5355\u0020\u004d\u0049\u004e\u0047\u0020\u0044\u0041\u004e"
+            + "\012\u83dc\u5355\u0020\u0043\u0041\u0049\u0020\u0044\u0041\u004e\012"
+            + "\u5355\u72ec\u0020\u0044\u0041\u004e\u0020\u0044\u0055\012\u5355\u4e8e"
+            + "\u0020\u0043\u0048\u0041\u004e\u0020\u0059\u0055\012\u5355\u53bf\u0020"
+            + "\u0053\u0048\u0041\u004e\u0020\u0058\u0049\u0041\u004e\012\u66fe\u7ecf"
+            + "\u0020\u0043\u0045\u004e\u0047\u0020\u004a\u0049\u004e\u0047\012\u4e0d"
+            + "\u66fe\u0020\u0042\u0055\u0020\u0043\u0045\u004e\u0047\012\u66fe\u5b59"
+            + "\u0020\u005a\u0045\u004e\u0047\u0020\u0053\u0055\u004e\012\u66fe\u7956"
+            + "\u0020\u005a\u0045\u004e\u0047\u0020\u005a\u0055\012\u89e3\u51b3\u0020"
+            + "\u004a\u0049\u0045\u0020\u004a\u0055\u0045\012\u4e86\u89e3\u0020\u004c"
+            + "\u0049\u0041\u004f\u0020\u004a\u0049\u0045\012\u7406\u89e3\u0020\u004c"
+            + "\u0049\u0020\u004a\u0049\u0045\012\u89e3\u653e\u0020\u004a\u0049\u0045"
+            + "\u0020\u0046\u0041\u004e\u0047\012\u6734\u7d20\u0020\u0050\u0055\u0020"
+            + "\u0053\u0055\012\u6734\u5b9e\u0020\u0050\u0055\u0020\u0053\u0048\u0049"
+            + "\012\u7b80\u6734\u0020\u004a\u0049\u0041\u004e\u0020\u0050\u0055\012"
+            + "\u6734\u5200\u0020\u0050\u004f\u0020\u0044\u0041\u004f\012\u68c0\u67e5"
+            + "\u0020\u004a\u0049\u0041\u004e\u0020\u0043\u0048\u0041\012\u67e5\u8be2"
+            + "\u0020\u0043\u0048\u0041\u0020\u0058\u0055\u004e\012\u5feb\u4e50\u0020"
+            + "\u004b\u0055\u0041\u0049\u0020\u004c\u0045\012\u6b22\u4e50\u0020\u0048"
+            + "\u0055\u0041\u004e\u0020\u004c\u0045\012\u4e50\u89c2\u0020\u004c\u0045"
+            + "\u0020\u0047\u0055\u0041\u004e\012\u5a31\u4e50\u0020\u0059\u0055\u0020"
+            + "\u004c\u0045\012\u53ef\u4e50\u0020\u004b\u0045\u0020\u004c\u0045\012"
+            + "\u97f3\u4e50\u0020\u0059\u0049\u004e\u0020\u0059\u0055\u0045\012\u4e50"
+            + "\u5668\u0020\u0059\u0055\u0045\u0020\u0051\u0049\012\u4e50\u961f\u0020"
+            + "\u0059\u0055\u0045\u0020\u0044\u0055\u0049\012\u5dee\u522b\u0020\u0043"
+            + "\u0048\u0041\u0020\u0042\u0049\u0045\012\u5dee\u5f02\u0020\u0043\u0048"
+            + "\u0041\u0020\u0059\u0049\012\u5dee\u8ddd\u0020\u0043\u0048\u0041\u0020"
+            + "\u004a\u0055\012\u5dee\u4e0d\u591a\u0020\u0043\u0048\u0041\u0020\u0042"
+            + "\u0055\u0020\u0044\u0055\u004f\012\u51fa\u5dee\u0020\u0043\u0048\u0055"
+            + "\u0020\u0043\u0048\u0041\u0049\012\u4fe1\u5dee\u0020\u0058\u0049\u004e"
+            + "\u0020\u0043\u0048\u0041\u0049\012\u5dee\u4e8b\u0020\u0043\u0048\u0041"
+            + "\u0049\u0020\u0053\u0048\u0049\012\u53c2\u5dee\u0020\u0043\u0045\u004e"
+            + "\u0020\u0043\u0049\012\u5f97\u5230\u0020\u0044\u0045\u0020\u0044\u0041"
+            + "\u004f\012\u8bb0\u5f97\u0020\u004a\u0049\u0020\u0044\u0045\012\u83b7"
+            + "\u5f97\u0020\u0048\u0055\u004f\u0020\u0044\u0045\012\u53d6\u5f97\u0020"
+            + "\u0051\u0055\u0020\u0044\u0045\012\u5730\u65b9\u0020\u0044\u0049\u0020"
+            + "\u0046\u0041\u004e\u0047\012\u571f\u5730\u0020\u0054\u0055\u0020\u0044"
+            + "\u0049\012\u5730\u7403\u0020\u0044\u0049\u0020\u0051\u0049\u0055\012"
+            + "\u5730\u56fe\u0020\u0044\u0049\u0020\u0054\u0055\012\u7684\u786e\u0020"
+            + "\u0044\u0049\u0020\u0051\u0055\u0045\012\u76ee\u7684\u0020\u004d\u0055"
+            + "\u0020\u0044\u0049\012\u7684\u58eb\u0020\u0044\u0049\u0020\u0053\u0048"
+            + "\u0049\012\u6211\u7684\u0020\u0057\u004f\u0020\u0044\u0045\012\u4f60"
+            + "\u7684\u0020\u004e\u0049\u0020\u0044\u0045\012\u4ed6\u7684\u0020\u0054"
+            + "\u0041\u0020\u0044\u0045\012\u5979\u7684\u0020\u0054\u0041\u0020\u0044"
+            + "\u0045\012\u662f\u7684\u0020\u0053\u0048\u0049\u0020\u0044\u0045\012"
+            + "\u597d\u7684\u0020\u0048\u0041\u004f\u0020\u0044\u0045\012\u7684\u8bdd"
+            + "\u0020\u0044\u0045\u0020\u0048\u0055\u0041\012\u7740\u6025\u0020\u005a"
+            + "\u0048\u0041\u004f\u0020\u004a\u0049\012\u7761\u7740\u0020\u0053\u0048"
+            + "\u0055\u0049\u0020\u005a\u0048\u0041\u004f\012\u7740\u706b\u0020\u005a"
+            + "\u0048\u0041\u004f\u0020\u0048\u0055\u004f\012\u7740\u843d\u0020\u005a"
+            + "\u0048\u0055\u004f\u0020\u004c\u0055\u004f\012\u7740\u624b\u0020\u005a"
+            + "\u0048\u0055\u004f\u0020\u0053\u0048\u004f\u0055\012\u7a7f\u7740\u0020"
+            + "\u0043\u0048\u0055\u0041\u004e\u0020\u005a\u0048\u0055\u004f\012\u8863"
+            + "\u7740\u0020\u0059\u0049\u0020\u005a\u0048\u0055\u004f\012\u597d\u4e86"
+            + "\u0020\u0048\u0041\u004f\u0020\u004c\u0045\012\u4e3a\u4e86\u0020\u0057"
+            + "\u0045\u0049\u0020\u004c\u0045\012\u9664\u4e86\u0020\u0043\u0048\u0055"
+            + "\u0020\u004c\u0045\012\u7b97\u4e86\u0020\u0053\u0055\u0041\u004e\u0020"
+            + "\u004c\u0045\012\u4e86\u4e0d\u8d77\u0020\u004c\u0049\u0041\u004f\u0020"
+            + "\u0042\u0055\u0020\u0051\u0049\012\u4e86\u7ed3\u0020\u004c\u0049\u0041"
+            + "\u004f\u0020\u004a\u0049\u0045\012\u660e\u4e86\u0020\u004d\u0049\u004e"
+            + "\u0047\u0020\u004c\u0049\u0041\u004f\012\u7ed9\u4e88\u0020\u004a\u0049"
+            + "\u0020\u0059\u0055\012\u4f9b\u7ed9\u0020\u0047\u004f\u004e\u0047\u0020"
+            + "\u004a\u0049\012\u8865\u7ed9\u0020\u0042\u0055\u0020\u004a\u0049\012"
+            + "\u81ea\u7ed9\u81ea\u8db3\u0020\u005a\u0049\u0020\u004a\u0049\u0020\u005a"
+            + "\u0049\u0020\u005a\u0055\012\u7ed9\u4f60\u0020\u0047\u0045\u0049\u0020"
+            + "\u004e\u0049\012\u65b9\u4fbf\u0020\u0046\u0041\u004e\u0047\u0020\u0042"
+            + "\u0049\u0041\u004e\012\u968f\u4fbf\u0020\u0053\u0055\u0049\u0020\u0042"
+            + "\u0049\u0041\u004e\012\u4fbf\u5229\u0020\u0042\u0049\u0041\u004e\u0020"
+            + "\u004c\u0049\012\u987a\u4fbf\u0020\u0053\u0048\u0055\u004e\u0020\u0042"
+            + "\u0049\u0041\u004e\012\u4fbf\u5b9c\u0020\u0050\u0049\u0041\u004e\u0020"
+            + "\u0059\u0049\012\u5927\u592b\u0020\u0044\u0041\u0049\u0020\u0046\u0055"
+            + "\012\u5927\u5bb6\u0020\u0044\u0041\u0020\u004a\u0049\u0041\012\u5927"
+            + "\u5b66\u0020\u0044\u0041\u0020\u0058\u0055\u0045\012\u8584\u8377\u0020"
+            + "\u0042\u004f\u0020\u0048\u0045\012\u5355\u8584\u0020\u0044\u0041\u004e"
+            + "\u0020\u0042\u004f\012\u8584\u5f31\u0020\u0042\u004f\u0020\u0052\u0055"
+            + "\u004f\012\u8584\u997c\u0020\u0042\u0041\u004f\u0020\u0042\u0049\u004e"
+            + "\u0047\012\u53c2\u52a0\u0020\u0043\u0041\u004e\u0020\u004a\u0049\u0041"
+            + "\012\u53c2\u8003\u0020\u0043\u0041\u004e\u0020\u004b\u0041\u004f\012"
+            + "\u53c2\u4e0e\u0020\u0043\u0041\u004e\u0020\u0059\u0055\012\u53c2\u6570"
+            + "\u0020\u0043\u0041\u004e\u0020\u0053\u0048\u0055\012\u4eba\u53c2\u0020"
+            + "\u0052\u0045\u004e\u0020\u0053\u0048\u0045\u004e\012\u6d77\u53c2\u0020"
+            + "\u0048\u0041\u0049\u0020\u0053\u0048\u0045\u004e\012\u6e29\u5ea6\u0020"
+            + "\u0057\u0045\u004e\u0020\u0044\u0055\012\u5ea6\u5047\u0020\u0044\u0055"
+            + "\u0020\u004a\u0049\u0041\012\u63e3\u5ea6\u0020\u0043\u0048\u0055\u0041"
+            + "\u0049\u0020\u0044\u0055\u004f\012\u5fd6\u5ea6\u0020\u0043\u0055\u004e"
+            + "\u0020\u0044\u0055\u004f\012\u89d2\u8272\u0020\u004a\u0055\u0045\u0020"
+            + "\u0053\u0045\012\u4e3b\u89d2\u0020\u005a\u0048\u0055\u0020\u004a\u0055"
+            + "\u0045\012\u53e3\u89d2\u0020\u004b\u004f\u0055\u0020\u004a\u0055\u0045"
+            + "\012\u89d2\u5ea6\u0020\u004a\u0049\u0041\u004f\u0020\u0044\u0055\012"
+            + "\u4e09\u89d2\u0020\u0053\u0041\u004e\u0020\u004a\u0049\u0041\u004f\012"
+            + "\u89d2\u843d\u0020\u004a\u0049\u0041\u004f\u0020\u004c\u0055\u004f\012"
+            + "\u6ca1\u6709\u0020\u004d\u0045\u0049\u0020\u0059\u004f\u0055\012\u6df9"
+            + "\u6ca1\u0020\u0059\u0041\u004e\u0020\u004d\u004f\012\u6ca1\u6536\u0020"
+            + "\u004d\u004f\u0020\u0053\u0048\u004f\u0055\012\u57cb\u6ca1\u0020\u004d"
+            + "\u0041\u0049\u0020\u004d\u004f\012\u51fa\u6ca1\u0020\u0043\u0048\u0055"
+            + "\u0020\u004d\u004f\012\u6c89\u6ca1\u0020\u0043\u0048\u0045\u004e\u0020"
+            + "\u004d\u004f\012\u5f3a\u5927\u0020\u0051\u0049\u0041\u004e\u0047\u0020"
+            + "\u0044\u0041\012\u575a\u5f3a\u0020\u004a\u0049\u0041\u004e\u0020\u0051"
+            + "\u0049\u0041\u004e\u0047\012\u52c9\u5f3a\u0020\u004d\u0049\u0041\u004e"
+            + "\u0020\u0051\u0049\u0041\u004e\u0047\012\u5014\u5f3a\u0020\u004a\u0055"
+            + "\u0045\u0020\u004a\u0049\u0041\u004e\u0047\012\u4f3c\u7684\u0020\u0053"
+            + "\u0048\u0049\u0020\u0044\u0045\012\u4f3c\u4e4e\u0020\u0053\u0049\u0020"
+            + "\u0048\u0055\012\u76f8\u4f3c\u0020\u0058\u0049\u0041\u004e\u0047\u0020"
+            + "\u0053\u0049\012\u7c7b\u4f3c\u0020\u004c\u0045\u0049\u0020\u0053\u0049"
+            + "\012\u5bbf\u820d\u0020\u0053\u0055\u0020\u0053\u0048\u0045\012\u4f4f"
+            + "\u5bbf\u0020\u005a\u0048\u0055\u0020\u0053\u0055\012\u661f\u5bbf\u0020"
+            + "\u0058\u0049\u004e\u0047\u0020\u0058\u0049\u0055\012\u8840\u6db2\u0020"
+            + "\u0058\u0055\u0045\u0020\u0059\u0045\012\u6d41\u8840\u0020\u004c\u0049"
+            + "\u0055\u0020\u0058\u0055\u0045\012\u8840\u578b\u0020\u0058\u0055\u0045"
+            + "\u0020\u0058\u0049\u004e\u0047\012\u8840\u6dcb\u6dcb\u0020\u0058\u0049"
+            + "\u0045\u0020\u004c\u0049\u004e\u0020\u004c\u0049\u004e\012\u5947\u602a"
+            + "\u0020\u0051\u0049\u0020\u0047\u0055\u0041\u0049\012\u795e\u5947\u0020"
+            + "\u0053\u0048\u0045\u004e\u0020\u0051\u0049\012\u597d\u5947\u0020\u0048"
+            + "\u0041\u004f\u0020\u0051\u0049\012\u5947\u6570\u0020\u004a\u0049\u0020"
+            + "\u0053\u0048\u0055\012\u5b66\u6821\u0020\u0058\u0055\u0045\u0020\u0058"
+            + "\u0049\u0041\u004f\012\u6821\u56ed\u0020\u0058\u0049\u0041\u004f\u0020"
+            + "\u0059\u0055\u0041\u004e\012\u4e0a\u6821\u0020\u0053\u0048\u0041\u004e"
+            + "\u0047\u0020\u0058\u0049\u0041\u004f\012\u6821\u5bf9\u0020\u004a\u0049"
+            + "\u0041\u004f\u0020\u0044\u0055\u0049\012\u6821\u6b63\u0020\u004a\u0049"
+            + "\u0041\u004f\u0020\u005a\u0048\u0045\u004e\u0047\012\u5c06\u6765\u0020"
+            + "\u004a\u0049\u0041\u004e\u0047\u0020\u004c\u0041\u0049\012\u5c06\u519b"
+            + "\u0020\u004a\u0049\u0041\u004e\u0047\u0020\u004a\u0055\u004e\012\u5c06"
+            + "\u8981\u0020\u004a\u0049\u0041\u004e\u0047\u0020\u0059\u0041\u004f\012"
+            + "\u5c06\u8fdb\u9152\u0020\u0051\u0049\u0041\u004e\u0047\u0020\u004a\u0049"
+            + "\u004e\u0020\u004a\u0049\u0055\012\u4e0b\u964d\u0020\u0058\u0049\u0041"
+            + "\u0020\u004a\u0049\u0041\u004e\u0047\012\u964d\u843d\u0020\u004a\u0049"
+            + "\u0041\u004e\u0047\u0020\u004c\u0055\u004f\012\u964d\u4f4e\u0020\u004a"
+            + "\u0049\u0041\u004e\u0047\u0020\u0044\u0049\012\u6295\u964d\u0020\u0054"
+            + "\u004f\u0055\u0020\u0058\u0049\u0041\u004e\u0047\012\u964d\u670d\u0020"
+            + "\u0058\u0049\u0041\u004e\u0047\u0020\u0046\u0055\012\u843d\u540e\u0020"
+            + "\u004c\u0055\u004f\u0020\u0048\u004f\u0055\012\u843d\u5b9e\u0020\u004c"
+            + "\u0055\u004f\u0020\u0053\u0048\u0049\012\u843d\u6795\u0020\u004c\u0041"
+            + "\u004f\u0020\u005a\u0048\u0045\u004e\012\u4e22\u4e09\u843d\u56db\u0020"
+            + "\u0044\u0049\u0055\u0020\u0053\u0041\u004e\u0020\u004c\u0041\u0020\u0053"
+            + "\u0049\012\u6a21\u578b\u0020\u004d\u004f\u0020\u0058\u0049\u004e\u0047"
+            + "\012\u6a21\u5f0f\u0020\u004d\u004f\u0020\u0053\u0048\u0049\012\u6a21"
+            + "\u4eff\u0020\u004d\u004f\u0020\u0046\u0041\u004e\u0047\012\u6a21\u7cca"
+            + "\u0020\u004d\u004f\u0020\u0048\u0055\012\u89c4\u6a21\u0020\u0047\u0055"
+            + "\u0049\u0020\u004d\u004f\012\u6a21\u6837\u0020\u004d\u0055\u0020\u0059"
+            + "\u0041\u004e\u0047\012\u6a21\u677f\u0020\u004d\u0055\u0020\u0042\u0041"
+            + "\u004e\012\u6a21\u5177\u0020\u004d\u0055\u0020\u004a\u0055\012\u661f"
+            + "\u671f\u0020\u0058\u0049\u004e\u0047\u0020\u0051\u0049\012\u65e5\u671f"
+            + "\u0020\u0052\u0049\u0020\u0051\u0049\012\u671f\u5f85\u0020\u0051\u0049"
+            + "\u0020\u0044\u0041\u0049\012\u5265\u524a\u0020\u0042\u004f\u0020\u0058"
+            + "\u0055\u0045\012\u5265\u593a\u0020\u0042\u004f\u0020\u0044\u0055\u004f"
+            + "\012\u5265\u76ae\u0020\u0042\u0041\u004f\u0020\u0050\u0049\012\u5927"
+            + "\u53a6\u0020\u0044\u0041\u0020\u0053\u0048\u0041\012\u53a6\u95e8\u0020"
+            + "\u0058\u0049\u0041\u0020\u004d\u0045\u004e\012\u66b4\u9732\u0020\u0042"
+            + "\u0041\u004f\u0020\u004c\u0055\012\u900f\u9732\u0020\u0054\u004f\u0055"
+            + "\u0020\u004c\u0055\012\u9732\u6c34\u0020\u004c\u0055\u0020\u0053\u0048"
+            + "\u0055\u0049\012\u9732\u5929\u0020\u004c\u0055\u0020\u0054\u0049\u0041"
+            + "\u004e\012\u9732\u51fa\u0020\u004c\u004f\u0055\u0020\u0043\u0048\u0055"
+            + "\012\u9732\u9762\u0020\u004c\u004f\u0055\u0020\u004d\u0049\u0041\u004e"
+            + "\012\u5b50\u5f39\u0020\u005a\u0049\u0020\u0044\u0041\u004e\012\u70b8"
+            + "\u5f39\u0020\u005a\u0048\u0041\u0020\u0044\u0041\u004e\012\u5bfc\u5f39"
+            + "\u0020\u0044\u0041\u004f\u0020\u0044\u0041\u004e\012\u5f39\u7434\u0020"
+            + "\u0054\u0041\u004e\u0020\u0051\u0049\u004e\012\u5f39\u6027\u0020\u0054"
+            + "\u0041\u004e\u0020\u0058\u0049\u004e\u0047\012\u5f39\u7c27\u0020\u0054"
+            + "\u0041\u004e\u0020\u0048\u0055\u0041\u004e\u0047\012\u5361\u7247\u0020"
+            + "\u004b\u0041\u0020\u0050\u0049\u0041\u004e\012\u4fe1\u7528\u5361\u0020"
+            + "\u0058\u0049\u004e\u0020\u0059\u004f\u004e\u0047\u0020\u004b\u0041\012"
+            + "\u5173\u5361\u0020\u0047\u0055\u0041\u004e\u0020\u0051\u0049\u0041\012"
+            + "\u5361\u58f3\u0020\u0051\u0049\u0041\u0020\u004b\u0045\012\u76db\u996d"
+            + "\u0020\u0043\u0048\u0045\u004e\u0047\u0020\u0046\u0041\u004e\012\u8302"
+            + "\u76db\u0020\u004d\u0041\u004f\u0020\u0053\u0048\u0045\u004e\u0047\012"
+            + "\u76db\u5927\u0020\u0053\u0048\u0045\u004e\u0047\u0020\u0044\u0041\012"
+            + "\u4e30\u76db\u0020\u0046\u0045\u004e\u0047\u0020\u0053\u0048\u0045\u004e"
+            + "\u0047\012\u76db\u5f00\u0020\u0053\u0048\u0045\u004e\u0047\u0020\u004b"
+            + "\u0041\u0049\012\u79f0\u547c\u0020\u0043\u0048\u0045\u004e\u0047\u0020"
+            + "\u0048\u0055\012\u540d\u79f0\u0020\u004d\u0049\u004e\u0047\u0020\u0043"
+            + "\u0048\u0045\u004e\u0047\012\u79f0\u8d5e\u0020\u0043\u0048\u0045\u004e"
+            + "\u0047\u0020\u005a\u0041\u004e\012\u5bf9\u79f0\u0020\u0044\u0055\u0049"
+            + "\u0020\u0043\u0048\u0045\u004e\012\u79f0\u5fc3\u0020\u0043\u0048\u0045"
+            + "\u004e\u0020\u0058\u0049\u004e\012\u76f8\u79f0\u0020\u0058\u0049\u0041"
+            + "\u004e\u0047\u0020\u0043\u0048\u0045\u004e\012\u7cfb\u7edf\u0020\u0058"
+            + "\u0049\u0020\u0054\u004f\u004e\u0047\012\u5173\u7cfb\u0020\u0047\u0055"
+            + "\u0041\u004e\u0020\u0058\u0049\012\u8054\u7cfb\u0020\u004c\u0049\u0041"
+            + "\u004e\u0020\u0058\u0049\012\u7cfb\u978b\u5e26\u0020\u004a\u0049\u0020"
+            + "\u0058\u0049\u0045\u0020\u0044\u0041\u0049\012\u624e\u9488\u0020\u005a"
+            + "\u0048\u0041\u0020\u005a\u0048\u0045\u004e\012\u6323\u624e\u0020\u005a"
+            + "\u0048\u0045\u004e\u0047\u0020\u005a\u0048\u0041\012\u624e\u5b9e\u0020"
+            + "\u005a\u0048\u0041\u0020\u0053\u0048\u0049\012\u5305\u624e\u0020\u0042"
+            + "\u0041\u004f\u0020\u005a\u0041\012\u624e\u8fab\u5b50\u0020\u005a\u0041"
+            + "\u0020\u0042\u0049\u0041\u004e\u0020\u005a\u0049\012\u6076\u5fc3\u0020"
+            + "\u0045\u0020\u0058\u0049\u004e\012\u51f6\u6076\u0020\u0058\u0049\u004f"
+            + "\u004e\u0047\u0020\u0045\012\u6076\u52a3\u0020\u0045\u0020\u004c\u0049"
+            + "\u0045\012\u53ef\u6076\u0020\u004b\u0045\u0020\u0057\u0055\012\u538c"
+            + "\u6076\u0020\u0059\u0041\u004e\u0020\u0057\u0055\012\u618e\u6076\u0020"
+            + "\u005a\u0045\u004e\u0047\u0020\u0057\u0055\012\u5413\u4eba\u0020\u0058"
+            + "\u0049\u0041\u0020\u0052\u0045\u004e\012\u60ca\u5413\u0020\u004a\u0049"
+            + "\u004e\u0047\u0020\u0058\u0049\u0041\012\u6050\u5413\u0020\u004b\u004f"
+            + "\u004e\u0047\u0020\u0048\u0045\012\u5c4f\u5e55\u0020\u0050\u0049\u004e"
+            + "\u0047\u0020\u004d\u0055\012\u5c4f\u98ce\u0020\u0050\u0049\u004e\u0047"
+            + "\u0020\u0046\u0045\u004e\u0047\012\u5c4f\u853d\u0020\u0050\u0049\u004e"
+            + "\u0047\u0020\u0042\u0049\012\u5c4f\u4f4f\u0020\u0042\u0049\u004e\u0047"
+            + "\u0020\u005a\u0048\u0055\012\u5c4f\u606f\u0020\u0042\u0049\u004e\u0047"
+            + "\u0020\u0058\u0049\012\u585e\u8f66\u0020\u0053\u0041\u0049\u0020\u0043"
+            + "\u0048\u0045\012\u585e\u5b50\u0020\u0053\u0041\u0049\u0020\u005a\u0049"
+            + "\012\u6d3b\u585e\u0020\u0048\u0055\u004f\u0020\u0053\u0041\u0049\012"
+            + "\u5835\u585e\u0020\u0044\u0055\u0020\u0053\u0045\012\u95ed\u585e\u0020"
+            + "\u0042\u0049\u0020\u0053\u0045\012\u963b\u585e\u0020\u005a\u0055\u0020"
+            + "\u0053\u0045\012\u4f7f\u52b2\u0020\u0053\u0048\u0049\u0020\u004a\u0049"
+            + "\u004e\012\u5e72\u52b2\u0020\u0047\u0041\u004e\u0020\u004a\u0049\u004e"
+            + "\012\u6709\u52b2\u0020\u0059\u004f\u0055\u0020\u004a\u0049\u004e\012"
+            + "\u5f3a\u52b2\u0020\u0051\u0049\u0041\u004e\u0047\u0020\u004a\u0049\u004e"
+            + "\u0047\012\u52b2\u654c\u0020\u004a\u0049\u004e\u0047\u0020\u0044\u0049"
+            + "\012\u5706\u5708\u0020\u0059\u0055\u0041\u004e\u0020\u0051\u0055\u0041"
+            + "\u004e\012\u5708\u5b50\u0020\u0051\u0055\u0041\u004e\u0020\u005a\u0049"
+            + "\012\u732a\u5708\u0020\u005a\u0048\u0055\u0020\u004a\u0055\u0041\u004e"
+            + "\012\u7f8a\u5708\u0020\u0059\u0041\u004e\u0047\u0020\u004a\u0055\u0041"
+            + "\u004e\012\u9009\u62e9\u0020\u0058\u0055\u0041\u004e\u0020\u005a\u0045"
+            + "\012\u62e9\u83dc\u0020\u005a\u0048\u0041\u0049\u0020\u0043\u0041\u0049"
+            + "\012\u62e9\u5e2d\u0020\u005a\u0048\u0041\u0049\u0020\u0058\u0049\012"
+            + "\u6298\u65ad\u0020\u005a\u0048\u0045\u0020\u0044\u0055\u0041\u004e\012"
+            + "\u6253\u6298\u0020\u0044\u0041\u0020\u005a\u0048\u0045\012\u6298\u817e"
+            + "\u0020\u005a\u0048\u0045\u0020\u0054\u0045\u004e\u0047\012\u9aa8\u6298"
+            + "\u0020\u0047\u0055\u0020\u005a\u0048\u0045\012\u6298\u672c\u0020\u0053"
+            + "\u0048\u0045\u0020\u0042\u0045\u004e\012";
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiles the text tables in data/ into PolyphonyData.java, with
+ * --binary into a dictionary file for {@link PolyphonyDictionary}, or with
+ * --pinyin into the {@link PinyinTable} resource
+ * res/smartisanos/util/pinyin.dat.
+ *
+ * Usage: PolyphonyDataGenerator [--binary|--pinyin] &lt;data dir&gt; &lt;output file&gt;
+ */
+final class PolyphonyDataGenerator {
+
+    private PolyphonyDataGenerator(){};
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String LICENSE = ""
+            + "/*\n"
+            + " * Copyright (C) 2014 The Smartisan Open Source Project\n"
+            + " * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.\n"
+            + " *\n"
+            + " * Licensed under the Apache License, Version 2.0 (the \"LICENSE\");\n"
+            + " * you may not use this file except in compliance with the License.\n"
+            + " * You may obtain a copy of the License at\n"
+            + " *\n"
+            + " *      http://www.apache.org/licenses/LICENSE-2.0\n"
+            + " *\n"
+            + " * Unless required by applicable law or agreed to in writing, software\n"
+            + " * distributed under the License is distributed on an \"AS IS\" BASIS,\n"
+            + " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n"
+            + " * See the License for the specific language governing permissions and\n"
+            + " * limitations under the License.\n"
+            + " */\n";
+
+    // Escaped chars per source line.
+    private static final int CHARS_PER_LINE = 12;
+
+    public static void main(String[] args) throws IOException {
+        boolean binary = args.length == 3 && "--binary".equals(args[0]);
+        boolean pinyin = args.length == 3 && "--pinyin".equals(args[0]);
+        if (args.length != 2 && !binary && !pinyin) {
+            System.err.println(
+                    "Usage: PolyphonyDataGenerator [--binary|--pinyin] <data dir> <output file>");
+            System.exit(1);
+        }
+        File dir = new File(args[args.length - 2]);
+        String output = args[args.length - 1];
+        PolyphonyTable polyphony = load(new File(dir, "polyphony.txt"));
+        PolyphonyTable familyName = load(new File(dir, "family_name.txt"));
+        String phrases = stripComments(read(new File(dir, "phrases.txt")));
+        PhraseDictionary phraseDictionary = PhraseDictionary.parse(phrases);
+        phraseDictionary.validate(polyphony);
+        if (pinyin) {
+            PinyinTable table = loadPinyin(new File(dir, "pinyin.txt"), polyphony);
+            DataOutputStream stream = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(output)));
+            try {
+                table.write(stream);
+            } finally {
+                stream.close();
+            }
+            System.out.println("Wrote " + table.size() + " readings in " + table.pageCount()
+                    + " pages to " + output);
+            return;
+        }
+        if (binary) {
+            OutputStream stream = new BufferedOutputStream(new FileOutputStream(output));
+            try {
+                PolyphonyDictionary.write(polyphony, familyName, stream);
+            } finally {
+                stream.close();
+            }
+            System.out.println("Wrote " + polyphony.size() + " polyphony and "
+                    + familyName.size() + " family name entries to " + output);
+            return;
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append(LICENSE);
+        out.append("\n// Generated by PolyphonyDataGenerator from polyphony.txt, family_name.txt\n")
+                .append("// and phrases.txt, do not edit. See PolyphonyTable#encode for the format.\n\n")
+                .append("package smartisanos.util;\n\n")
+                .append("final class PolyphonyData {\n\n")
+                .append("    private PolyphonyData(){};\n");
+        appendTable(out, "POLYPHONY", polyphony);
+        appendTable(out, "FAMILY_NAME", familyName);
+        appendString(out, "PHRASES", phrases);
+        out.append("}\n");
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(output), UTF_8);
+        try {
+            writer.write(out.toString());
+        } finally {
+            writer.close();
+        }
+        System.out.println("Wrote " + polyphony.size() + " polyphony and " + familyName.size()
+                + " family name entries and " + phraseDictionary.size()
+                + " phrases to " + output);
+    }
+
+    private static PolyphonyTable load(File file) throws IOException {
+        return PolyphonyTable.parse(read(file));
+    }
+
+    /**
+     * Read pinyin.txt. Its readings are kept for polyphonic chars too, as
+     * they are the most common ones; the polyphony table only adds the tone
+     * where pinyin.txt has none, e.g. the neutral tone of \u7684 (DE5), and
+     * the heaviest reading of polyphonic chars pinyin.txt lacks. Readings
+     * that are not among the char's polyphony readings are reported.
+     */
+    private static PinyinTable loadPinyin(File file, PolyphonyTable polyphony)
+            throws IOException {
+        Map<Integer, Integer> readings = new HashMap<Integer, Integer>();
+        for (String line : stripComments(read(file)).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(" +");
+            int codePoint = fields[0].codePointAt(0);
+            if (fields.length != 2 || Character.charCount(codePoint) != fields[0].length()) {
+                throw new IllegalArgumentException("Expected a char and a reading: " + line);
+            }
+            if (readings.put(codePoint, PinyinReading.parse(fields[1])) != null) {
+                throw new IllegalArgumentException("Duplicate char: " + line);
+            }
+        }
+        int[] packed = new int[PolyphonyTable.MAX_READINGS];
+        int[] weights = new int[PolyphonyTable.MAX_READINGS];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            int count = polyphony.getReadings((char) c, packed, 0);
+            if (count == 0) {
+                continue;
+            }
+            Integer reading = readings.get(c);
+            if (reading == null) {
+                polyphony.getWeights((char) c, weights, 0);
+                int heaviest = 0;
+                for (int k = 1; k < count; k++) {
+                    if (weights[k] > weights[heaviest]) {
+                        heaviest = k;
+                    }
+                }
+                readings.put(c, packed[heaviest]);
+                continue;
+            }
+            int k = 0;
+            while (k < count && PinyinReading.getSyllableId(packed[k])
+                    != PinyinReading.getSyllableId(reading)) {
+                k++;
+            }
+            if (k == count) {
+                System.err.println("Warning: " + new String(Character.toChars(c)) + " "
+                        + SyllablePool.get(PinyinReading.getSyllableId(reading))
+                        + " is not among its polyphony readings");
+            } else if (PinyinReading.getTone(reading) == PinyinReading.TONE_UNKNOWN) {
+                readings.put(c, packed[k]);
+            }
+        }
+        return PinyinTable.fromMap(readings);
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), UTF_8);
+    }
+
+    private static String stripComments(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (String line : text.split("\n")) {
+            line = line.trim();
+            if (!line.isEmpty() && line.charAt(0) != '#') {
+                out.append(line).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendTable(StringBuilder out, String name, PolyphonyTable table) {
+        String[] encoded = table.encode();
+        appendString(out, name + "_KEYS", encoded[0]);
+        appendString(out, name + "_KEY_SETS", encoded[1]);
+        appendString(out, name + "_SETS", encoded[2]);
+    }
+
+    private static void appendString(StringBuilder out, String name, String value) {
+        out.append("\n    static final String ").append(name).append(" = \"\"");
+        for (int i = 0; i < value.length(); i++) {
+            if (i % CHARS_PER_LINE == 0) {
+                out.append("\n            + \"");
+            }
+            char c = value.charAt(i);
+            // Unicode escapes are resolved before the source is tokenized, so
+            // line breaks, quotes and backslashes need octal escapes.
+            if (c < 0x20 || c == '"' || c == '\\') {
+                out.append(String.format("\\%03o", (int) c));
+            } else {
+                out.append(String.format("\\u%04x", (int) c));
+            }
+            if (i % CHARS_PER_LINE == CHARS_PER_LINE - 1 || i == value.length() - 1) {
+                out.append('"');
+            }
+        }
+        out.append(";\n");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A polyphony and a family name table loaded from a binary dictionary file,
+ * see {@link PinyinHelper#reloadDictionary(File)}.
+ *
+ * The file is mapped read-only and the big char-indexed part of each table
+ * is read from the mapping, so loading costs little heap and no parsing.
+ * A file that is in use must not be modified in place; write the new
+ * version next to it and rename it over the old one.
+ *
+ * File format, big endian: magic "PYDT", version, the number of syllables
+ * and each syllable as a length byte and ASCII chars, then the polyphony
+ * and the family name table (see PolyphonyTable#write), whose syllable ids
+ * index the syllables of the file.
+ */
+public final class PolyphonyDictionary {
+
+    private static final int MAGIC = 0x50594454; // "PYDT"
+    // Version 2 added the reading weights.
+    private static final int VERSION = 2;
+
+    final PolyphonyTable mPolyphony;
+    final PolyphonyTable mFamilyName;
+    private final File mFile;
+
+    private PolyphonyDictionary(PolyphonyTable polyphony, PolyphonyTable familyName, File file) {
+        mPolyphony = polyphony;
+        mFamilyName = familyName;
+        mFile = file;
+    }
+
+    /**
+     * Map a dictionary file.
+     *
+     * @throws IOException if the file can not be read or is not a valid
+     *         dictionary
+     */
+    public static PolyphonyDictionary load(File file) throws IOException {
+        MappedByteBuffer buffer;
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            // The mapping stays valid after the channel is closed.
+            channel.close();
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a dictionary file: " + file);
+            }
+            int version = buffer.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported dictionary version " + version + ": " + file);
+            }
+            int syllableCount = buffer.getInt();
+            // Each syllable takes at least its length byte.
+            if (syllableCount < 0 || syllableCount > buffer.remaining()) {
+                throw new IOException("Bad syllable count in dictionary file: " + file);
+            }
+            char[] idMap = new char[syllableCount];
+            for (int i = 0; i < idMap.length; i++) {
+                byte[] syllable = new byte[buffer.get() & 0xff];
+                buffer.get(syllable);
+                int id = SyllablePool.idOf(new String(syllable, "US-ASCII"));
+                if (id < 0) {
+                    throw new IOException("Unknown syllable in dictionary file: " + file);
+                }
+                idMap[i] = (char) id;
+            }
+            boolean hasWeights = version >= 2;
+            PolyphonyTable polyphony = PolyphonyTable.read(buffer, idMap, hasWeights);
+            PolyphonyTable familyName = PolyphonyTable.read(buffer, idMap, hasWeights);
+            return new PolyphonyDictionary(polyphony, familyName, file);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated dictionary file: " + file, e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt dictionary file: " + file, e);
+        }
+    }
+
+    /**
+     * Write the dictionary file of the two tables.
+     */
+    static void write(PolyphonyTable polyphony, PolyphonyTable familyName, OutputStream out)
+            throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(SyllablePool.size());
+        for (int id = 0; id < SyllablePool.size(); id++) {
+            String syllable = SyllablePool.get(id);
+            data.writeByte(syllable.length());
+            data.writeBytes(syllable);
+        }
+        polyphony.write(data);
+        familyName.write(data);
+        data.flush();
+    }
+
+    /**
+     * The file the dictionary was loaded from.
+     */
+    public File getFile() {
+        return mFile;
+    }
+
+    public boolean isPolyphony(char c) {
+        return mPolyphony.contains(c);
+    }
+
+    /**
+     * @return the readings, shared and not to be modified; null if the
+     *         char has not polyphony
+     */
+    public String[] getPolyphony(char c) {
+        return mPolyphony.get(c);
+    }
+
+    public boolean isPolyphonyFamilyName(char c) {
+        return mFamilyName.contains(c);
+    }
+
+    /**
+     * @return the readings, shared and not to be modified; null if the
+     *         char has not polyphony as a family name
+     */
+    public String[] getPolyphonyFamilyName(char c) {
+        return mFamilyName.get(c);
+    }
+}
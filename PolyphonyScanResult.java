@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+
+/**
+ * Polyphonic chars found by {@link PinyinHelper#scanPolyphony}.
+ *
+ * A result is meant to be reused: every scan clears it, and its arrays only
+ * grow when a text has more polyphonic chars than any text before, so a
+ * steady stream of scans does not allocate. Not thread safe.
+ */
+public final class PolyphonyScanResult {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] mPositions;
+    private int[] mSets;
+    private int mSize;
+    private PolyphonyTable mTable;
+
+    public PolyphonyScanResult() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PolyphonyScanResult(int capacity) {
+        mPositions = new int[capacity];
+        mSets = new int[capacity];
+    }
+
+    void reset(PolyphonyTable table) {
+        mSize = 0;
+        mTable = table;
+    }
+
+    void add(int position, int set) {
+        if (mSize == mPositions.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, mSize * 2);
+            mPositions = Arrays.copyOf(mPositions, capacity);
+            mSets = Arrays.copyOf(mSets, capacity);
+        }
+        mPositions[mSize] = position;
+        mSets[mSize] = set;
+        mSize++;
+    }
+
+    /**
+     * Number of polyphonic chars found by the last scan.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Index of the i-th polyphonic char in the scanned text.
+     */
+    public int getPosition(int i) {
+        checkIndex(i);
+        return mPositions[i];
+    }
+
+    /**
+     * Readings of the i-th polyphonic char, the same array as
+     * {@link PinyinHelper#getPolyphony(char)} returns.
+     */
+    public String[] getReadings(int i) {
+        checkIndex(i);
+        return mTable.readingsOf(mSets[i]);
+    }
+
+    /**
+     * Number of readings of the i-th polyphonic char.
+     */
+    public int getReadingCount(int i) {
+        checkIndex(i);
+        return mTable.packedOf(mSets[i]) & PolyphonyTable.COUNT_MASK;
+    }
+
+    /**
+     * Syllable id of reading {@code k} of the i-th polyphonic char.
+     *
+     * @see PinyinHelper#getSyllable(int)
+     */
+    public int getSyllableId(int i, int k) {
+        if (k < 0 || k >= getReadingCount(i)) {
+            throw new IndexOutOfBoundsException("Reading " + k + " of " + getReadingCount(i));
+        }
+        return mTable.syllableId(mTable.packedOf(mSets[i]), k);
+    }
+
+    /**
+     * Packed reading, syllable id and tone, of reading {@code k} of the i-th
+     * polyphonic char.
+     *
+     * @see PinyinReading
+     */
+    public int getReading(int i, int k) {
+        if (k < 0 || k >= getReadingCount(i)) {
+            throw new IndexOutOfBoundsException("Reading " + k + " of " + getReadingCount(i));
+        }
+        return mTable.reading(mTable.packedOf(mSets[i]), k);
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= mSize) {
+            throw new IndexOutOfBoundsException("Index " + i + ", size " + mSize);
+        }
+    }
+}
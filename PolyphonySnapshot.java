@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable state of the polyphony and family name tables: the
+ * built-in tables or a loaded {@link PolyphonyDictionary}, with user
+ * overrides on top, such as a regional reading of a surname.
+ *
+ * Every with* method returns a new snapshot and leaves this one as it is,
+ * so a snapshot can be shared by any number of threads, kept per tenant,
+ * or published with {@link PinyinHelper#updateSnapshot}. Lookups return
+ * unmodifiable lists shared by all callers, without copying. Changing an
+ * override rebuilds the affected table, which takes well under a
+ * millisecond; lookups cost the same with or without overrides.
+ */
+public final class PolyphonySnapshot {
+
+    private static final char[] NO_READINGS = new char[0];
+
+    /**
+     * The built-in tables without overrides.
+     */
+    public static final PolyphonySnapshot BUILT_IN = new PolyphonySnapshot(null,
+            new TreeMap<Character, char[]>(), new TreeMap<Character, char[]>(), null);
+
+    private final PolyphonyDictionary mDictionary;
+    // Entries by char, see PolyphonyTable#parseReadings; an empty array
+    // removes the char from the table. Never modified once the snapshot is
+    // built.
+    private final TreeMap<Character, char[]> mPolyphonyOverrides;
+    private final TreeMap<Character, char[]> mFamilyNameOverrides;
+    // Tables with the overrides applied, null for the built-in tables
+    // unchanged, which are then built on first use as before.
+    final PolyphonyTable mPolyphony;
+    final PolyphonyTable mFamilyName;
+
+    /**
+     * @param previous snapshot whose tables are reused where the dictionary
+     *        and overrides are the same, or null
+     */
+    private PolyphonySnapshot(PolyphonyDictionary dictionary,
+            TreeMap<Character, char[]> polyphonyOverrides,
+            TreeMap<Character, char[]> familyNameOverrides, PolyphonySnapshot previous) {
+        mDictionary = dictionary;
+        mPolyphonyOverrides = polyphonyOverrides;
+        mFamilyNameOverrides = familyNameOverrides;
+        boolean sameDictionary = previous != null && previous.mDictionary == dictionary;
+        mPolyphony = sameDictionary && previous.mPolyphonyOverrides == polyphonyOverrides
+                ? previous.mPolyphony
+                : merge(dictionary != null ? dictionary.mPolyphony : null,
+                        polyphonyOverrides, true);
+        mFamilyName = sameDictionary && previous.mFamilyNameOverrides == familyNameOverrides
+                ? previous.mFamilyName
+                : merge(dictionary != null ? dictionary.mFamilyName : null,
+                        familyNameOverrides, false);
+    }
+
+    private static PolyphonyTable merge(PolyphonyTable base,
+            TreeMap<Character, char[]> overrides, boolean polyphony) {
+        if (overrides.isEmpty()) {
+            return base;
+        }
+        if (base == null) {
+            base = polyphony ? PinyinHelper.builtInPolyphonyTable()
+                    : PinyinHelper.builtInFamilyNameTable();
+        }
+        return base.withEntries(overrides);
+    }
+
+    /**
+     * @return the dictionary under the overrides, or null for the built-in
+     *         tables
+     */
+    public PolyphonyDictionary getDictionary() {
+        return mDictionary;
+    }
+
+    /**
+     * This snapshot on top of another dictionary, or of the built-in tables
+     * if {@code dictionary} is null. The overrides are kept.
+     */
+    public PolyphonySnapshot withDictionary(PolyphonyDictionary dictionary) {
+        return new PolyphonySnapshot(dictionary, mPolyphonyOverrides, mFamilyNameOverrides,
+                this);
+    }
+
+    /**
+     * Override the polyphony readings of a char, in the syllable form of
+     * the data files, e.g. "XING", "HANG2", optionally with a weight,
+     * "HANG2:30". With no readings the char is not polyphonic.
+     *
+     * @throws IllegalArgumentException if a reading is not a known
+     *         syllable, is repeated, has a bad weight, or there are more
+     *         than {@link PinyinHelper#MAX_READINGS}
+     */
+    public PolyphonySnapshot withPolyphony(char c, String... readings) {
+        return new PolyphonySnapshot(mDictionary, put(mPolyphonyOverrides, c, readings),
+                mFamilyNameOverrides, this);
+    }
+
+    /**
+     * Override the family name readings of a char, as
+     * {@link #withPolyphony}.
+     */
+    public PolyphonySnapshot withFamilyName(char c, String... readings) {
+        return new PolyphonySnapshot(mDictionary, mPolyphonyOverrides,
+                put(mFamilyNameOverrides, c, readings), this);
+    }
+
+    /**
+     * Drop the polyphony override of a char, if any.
+     */
+    public PolyphonySnapshot withoutPolyphonyOverride(char c) {
+        if (!mPolyphonyOverrides.containsKey(c)) {
+            return this;
+        }
+        TreeMap<Character, char[]> overrides =
+                new TreeMap<Character, char[]>(mPolyphonyOverrides);
+        overrides.remove(c);
+        return new PolyphonySnapshot(mDictionary, overrides, mFamilyNameOverrides, this);
+    }
+
+    /**
+     * Drop the family name override of a char, if any.
+     */
+    public PolyphonySnapshot withoutFamilyNameOverride(char c) {
+        if (!mFamilyNameOverrides.containsKey(c)) {
+            return this;
+        }
+        TreeMap<Character, char[]> overrides =
+                new TreeMap<Character, char[]>(mFamilyNameOverrides);
+        overrides.remove(c);
+        return new PolyphonySnapshot(mDictionary, mPolyphonyOverrides, overrides, this);
+    }
+
+    /**
+     * Drop all overrides.
+     */
+    public PolyphonySnapshot withoutOverrides() {
+        return mDictionary == null ? BUILT_IN : new PolyphonySnapshot(mDictionary,
+                new TreeMap<Character, char[]>(), new TreeMap<Character, char[]>(), null);
+    }
+
+    private static TreeMap<Character, char[]> put(TreeMap<Character, char[]> overrides,
+            char c, String[] readings) {
+        char[] packed = readings.length == 0 ? NO_READINGS
+                : PolyphonyTable.parseReadings(c, readings);
+        TreeMap<Character, char[]> updated = new TreeMap<Character, char[]>(overrides);
+        updated.put(c, packed);
+        return updated;
+    }
+
+    /**
+     * The polyphony overrides by char, with tone numbers where given and
+     * weights, "HANG2:30"; an empty list where a char is made not
+     * polyphonic.
+     */
+    public Map<Character, List<String>> getPolyphonyOverrides() {
+        return view(mPolyphonyOverrides);
+    }
+
+    /**
+     * The family name overrides by char, as {@link #getPolyphonyOverrides}.
+     */
+    public Map<Character, List<String>> getFamilyNameOverrides() {
+        return view(mFamilyNameOverrides);
+    }
+
+    private static Map<Character, List<String>> view(TreeMap<Character, char[]> overrides) {
+        TreeMap<Character, List<String>> view = new TreeMap<Character, List<String>>();
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<Character, char[]> entry : overrides.entrySet()) {
+            char[] packed = entry.getValue();
+            String[] readings = new String[packed.length / 2];
+            for (int k = 0; k < readings.length; k++) {
+                text.setLength(0);
+                PinyinReading.format(packed[k], PinyinReading.FORMAT_NUMERIC_TONE, text);
+                text.append(':').append((int) packed[readings.length + k]);
+                readings[k] = text.toString();
+            }
+            view.put(entry.getKey(), Collections.unmodifiableList(Arrays.asList(readings)));
+        }
+        return Collections.unmodifiableMap(view);
+    }
+
+    PolyphonyTable polyphonyTable() {
+        return mPolyphony != null ? mPolyphony : PinyinHelper.builtInPolyphonyTable();
+    }
+
+    PolyphonyTable familyNameTable() {
+        return mFamilyName != null ? mFamilyName : PinyinHelper.builtInFamilyNameTable();
+    }
+
+    public boolean isPolyphony(char c) {
+        return polyphonyTable().contains(c);
+    }
+
+    /**
+     * @return the readings of the char, or null if it has not polyphony
+     */
+    public List<String> getPolyphony(char c) {
+        return polyphonyTable().getList(c);
+    }
+
+    public boolean isPolyphonyFamilyName(char c) {
+        return familyNameTable().contains(c);
+    }
+
+    /**
+     * @return the family name readings of the char, or null if it has not
+     *         polyphony as a family name
+     */
+    public List<String> getPolyphonyFamilyName(char c) {
+        return familyNameTable().getList(c);
+    }
+
+    /**
+     * Like {@link PinyinHelper#getPolyphonyReadings(char, int[], int)}.
+     */
+    public int getPolyphonyReadings(char c, int[] dst, int dstOffset) {
+        return polyphonyTable().getReadings(c, dst, dstOffset);
+    }
+
+    /**
+     * Like {@link PinyinHelper#getPolyphonyFamilyNameReadings(char, int[], int)}.
+     */
+    public int getPolyphonyFamilyNameReadings(char c, int[] dst, int dstOffset) {
+        return familyNameTable().getReadings(c, dst, dstOffset);
+    }
+
+    /**
+     * Like {@link PinyinHelper#getPolyphonyIndex()}.
+     */
+    public SyllableIndex getPolyphonyIndex() {
+        return polyphonyTable().index();
+    }
+
+    /**
+     * Like {@link PinyinHelper#getFamilyNameIndex()}.
+     */
+    public SyllableIndex getFamilyNameIndex() {
+        return familyNameTable().index();
+    }
+
+    /**
+     * Like {@link PinyinHelper#getPolyphonyWeights(char, int[], int)}.
+     */
+    public int getPolyphonyWeights(char c, int[] dst, int dstOffset) {
+        return polyphonyTable().getWeights(c, dst, dstOffset);
+    }
+
+    /**
+     * Like {@link PinyinHelper#getPolyphonyFamilyNameWeights(char, int[], int)}.
+     */
+    public int getPolyphonyFamilyNameWeights(char c, int[] dst, int dstOffset) {
+        return familyNameTable().getWeights(c, dst, dstOffset);
+    }
+}
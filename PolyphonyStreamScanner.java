@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Finds the polyphonic code points of text of any length, in chunks.
+ *
+ * Text is pushed with {@link #feed(CharBuffer)} or pulled from a
+ * {@link Reader} with {@link #scan(Reader)}, and every polyphonic code
+ * point is reported to the {@link Listener} as soon as it is read. A
+ * surrogate pair split between two chunks is joined before the lookup,
+ * so nothing but the pending high surrogate is kept between chunks and
+ * memory use does not depend on the length of the text. Unpaired
+ * surrogates are skipped.
+ *
+ * Not thread safe.
+ */
+public final class PolyphonyStreamScanner {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Receives the polyphonic code points of the text, in text order.
+     */
+    public interface Listener {
+        /**
+         * @param position index of the first char of the code point, counted
+         *        in chars from the start of the text
+         * @param readings the readings of the code point, must not be modified
+         */
+        void onPolyphony(long position, int codePoint, String[] readings);
+    }
+
+    private final Listener mListener;
+    private char[] mBuffer;
+    // Chars fed so far.
+    private long mPosition;
+    // High surrogate at the end of the last chunk, or 0.
+    private char mPendingHigh;
+
+    public PolyphonyStreamScanner(Listener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Scan the remaining chars of the buffer and move its position to its
+     * limit. A trailing high surrogate is joined with the first char of the
+     * next call.
+     */
+    public void feed(CharBuffer chunk) {
+        final PolyphonyTable table = PinyinHelper.polyphonyTable();
+        if (chunk.hasArray()) {
+            int start = chunk.arrayOffset() + chunk.position();
+            feed(table, chunk.array(), start, start + chunk.remaining());
+        } else {
+            while (chunk.hasRemaining()) {
+                feed(table, chunk.get());
+            }
+        }
+        chunk.position(chunk.limit());
+    }
+
+    /**
+     * Scan {@code text[offset, offset + length)}, as {@link #feed(CharBuffer)}.
+     */
+    public void feed(char[] text, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > text.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length
+                    + ", array length " + text.length);
+        }
+        feed(PinyinHelper.polyphonyTable(), text, offset, offset + length);
+    }
+
+    private void feed(PolyphonyTable table, char[] text, int start, int end) {
+        int i = start;
+        while (i < end) {
+            if (mPendingHigh == 0) {
+                // Skip to the next polyphonic char; a supplementary code point
+                // is never polyphonic, so only a trailing high surrogate has
+                // to be kept for the next chunk.
+                int next = table.indexOfKey(text, i, end);
+                if (next > i) {
+                    mPosition += next - i;
+                    if (Character.isHighSurrogate(text[next - 1])) {
+                        mPendingHigh = text[next - 1];
+                    }
+                    i = next;
+                    continue;
+                }
+            }
+            char c = text[i++];
+            if (mPendingHigh == 0 && !Character.isSurrogate(c)) {
+                int set = table.setOf(c);
+                if (set != 0) {
+                    mListener.onPolyphony(mPosition, c, table.readingsOf(set));
+                }
+                mPosition++;
+            } else {
+                feed(table, c);
+            }
+        }
+    }
+
+    private void feed(PolyphonyTable table, char c) {
+        int codePoint = c;
+        long position = mPosition;
+        if (mPendingHigh != 0) {
+            if (Character.isLowSurrogate(c)) {
+                codePoint = Character.toCodePoint(mPendingHigh, c);
+                position--;
+            }
+            mPendingHigh = 0;
+        }
+        mPosition++;
+        if (Character.isHighSurrogate(c)) {
+            mPendingHigh = c;
+            return;
+        }
+        if (Character.isLowSurrogate(c) && codePoint == c) {
+            return;
+        }
+        int set = table.setOfCodePoint(codePoint);
+        if (set != 0) {
+            mListener.onPolyphony(position, codePoint, table.readingsOf(set));
+        }
+    }
+
+    /**
+     * Read the reader to its end and scan everything read, then
+     * {@link #finish()}. The reader is not closed.
+     *
+     * @return the number of chars scanned since the last finish
+     */
+    public long scan(Reader reader) throws IOException {
+        if (mBuffer == null) {
+            mBuffer = new char[DEFAULT_BUFFER_SIZE];
+        }
+        int count;
+        while ((count = reader.read(mBuffer)) >= 0) {
+            feed(PinyinHelper.polyphonyTable(), mBuffer, 0, count);
+        }
+        return finish();
+    }
+
+    /**
+     * End the text: drop a pending high surrogate and start positions at 0
+     * again.
+     *
+     * @return the number of chars scanned since the last finish
+     */
+    public long finish() {
+        long length = mPosition;
+        mPosition = 0;
+        mPendingHigh = 0;
+        return length;
+    }
+}
@@ -0,0 +1,790 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Two-level char-indexed table of pinyin readings.
+ *
+ * The high byte of a char selects a page, the low byte a slot in that page.
+ * Pages without any entry all share the first (empty) page, so the table
+ * only pays for the few CJK pages that actually hold polyphonic chars.
+ * A lookup is two array loads, no boxing and no hashing.
+ *
+ * Chars with the same readings share one reading set. A set is packed into
+ * an int as (offset << COUNT_BITS) | count, where offset points into a
+ * single char[] of {@link SyllablePool} ids, and its String[] is built
+ * from the pooled syllables.
+ *
+ * Each reading has a weight, its relative frequency among the readings of
+ * the char, in a char[] parallel to the ids. Readings listed without one
+ * get a default that halves with each position, see {@link #defaultWeight}.
+ *
+ * Bulk scans ({@link #scan}, {@link #indexOfKey}) take text in blocks of
+ * eight chars. A block that is all below the lowest or all above the
+ * highest key, like ASCII or emoji, is skipped with one test; the chars of
+ * other blocks are tested in a bitmap of the keys, which stays in cache,
+ * and only keys have their slot read.
+ *
+ * Tables are written by hand in a text form (see {@link #parse}) and
+ * shipped in a compact form of three strings (see {@link #encode}) that
+ * is turned into a table without parsing a single syllable. They can also
+ * be stored in a binary form (see {@link #write}); a table read from a
+ * mapped file looks its slots up in the mapping instead of the heap.
+ */
+final class PolyphonyTable {
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int PAGE_COUNT = 1 << (Character.SIZE - PAGE_SHIFT);
+
+    static final int COUNT_BITS = 3;
+    static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    static final int MAX_READINGS = COUNT_MASK;
+
+    // Chars tested at once by the bulk scans.
+    private static final int BLOCK = 8;
+
+    // All chars of the table, ascending.
+    private final char[] mKeys;
+    // Start offset in mSlots of the page for each high byte.
+    private final int[] mPages;
+    // Reading set of each char; 0 means the char is not present. Wraps an
+    // array, or a view of a mapped file.
+    private final CharBuffer mSlots;
+    // Packed reading sets, mSets[0] is always 0.
+    private final int[] mSets;
+    // Packed readings (see PinyinReading) of all reading sets, back to back.
+    private final char[] mIds;
+    // Weight of each reading of mIds.
+    private final char[] mWeights;
+    // Readings by reading set, mReadings[0] is always null.
+    private final String[][] mReadings;
+    // Unmodifiable lists over copies of mReadings, whose arrays the legacy
+    // String[] getters hand out.
+    private final List<String>[] mReadingLists;
+    // Heaviest reading of each reading set, the first listed among equals.
+    private final String[] mPreferred;
+    // Bit c is set if char c is a key: 8 KB, small enough to stay in cache.
+    private final long[] mKeyBits;
+    // Lowest and highest key; Character.MAX_VALUE + 1 and -1 if empty.
+    private final int mLowest;
+    private final int mHighest;
+    // Built on first use; racing threads build equal indexes.
+    private volatile SyllableIndex mIndex;
+
+    /**
+     * Parse a table from its text form: one line per char, the char followed
+     * by its readings, each preceded by a space, e.g. "\u884c XING HANG". A
+     * reading may end with its tone number, "HANG2", and then with its
+     * weight, "HANG2:30"; either all readings of a line have a weight or
+     * none. Empty lines and lines starting with '#' are skipped. A later
+     * line for the same char replaces an earlier one.
+     */
+    static PolyphonyTable parse(CharSequence text) {
+        TreeMap<Character, String[]> entries = new TreeMap<Character, String[]>();
+        final int length = text.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && text.charAt(end) != '\n') {
+                end++;
+            }
+            String line = text.subSequence(start, end).toString().trim();
+            start = end + 1;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            String[] fields = line.split(" +");
+            if (fields[0].length() != 1) {
+                throw new IllegalArgumentException("Bad polyphony line: " + line);
+            }
+            entries.put(fields[0].charAt(0), Arrays.copyOfRange(fields, 1, fields.length));
+        }
+        return fromMap(entries);
+    }
+
+    /**
+     * Build a table from a map of chars to their readings.
+     */
+    static PolyphonyTable fromMap(Map<Character, String[]> map) {
+        TreeMap<Character, char[]> entries = new TreeMap<Character, char[]>();
+        for (Map.Entry<Character, String[]> entry : map.entrySet()) {
+            entries.put(entry.getKey(), parseReadings(entry.getKey(), entry.getValue()));
+        }
+        return fromPacked(entries);
+    }
+
+    /**
+     * @return the entry of the char: the packed readings followed by their
+     *         weights, twice as long as {@code readings}
+     * @throws IllegalArgumentException if a reading is not a known syllable
+     *         or repeats a syllable, a weight is not 1 to 65535 or missing
+     *         on some readings only, or the count is not 1 to MAX_READINGS
+     */
+    static char[] parseReadings(char c, String[] readings) {
+        final int count = readings.length;
+        if (count == 0 || count > MAX_READINGS) {
+            throw new IllegalArgumentException("Bad reading count for " + c);
+        }
+        char[] entry = new char[count * 2];
+        int weighted = 0;
+        for (int k = 0; k < count; k++) {
+            String reading = readings[k];
+            int colon = reading.indexOf(':');
+            int weight = defaultWeight(k);
+            if (colon >= 0) {
+                try {
+                    weight = Integer.parseInt(reading.substring(colon + 1));
+                } catch (NumberFormatException e) {
+                    weight = 0;
+                }
+                if (weight < 1 || weight > Character.MAX_VALUE) {
+                    throw new IllegalArgumentException("Bad weight for " + c + ": " + reading);
+                }
+                reading = reading.substring(0, colon);
+                weighted++;
+            }
+            entry[k] = (char) PinyinReading.parse(reading);
+            entry[count + k] = (char) weight;
+            for (int j = 0; j < k; j++) {
+                if (((entry[j] ^ entry[k]) & PinyinReading.ID_MASK) == 0) {
+                    throw new IllegalArgumentException("Duplicate syllable for "
+                            + c + ": " + readings[k]);
+                }
+            }
+        }
+        if (weighted != 0 && weighted != count) {
+            throw new IllegalArgumentException("Weights missing for " + c);
+        }
+        return entry;
+    }
+
+    /**
+     * Weight of the reading at {@code index} when none is given: 64 for the
+     * first, 32 for the second and so on, so the readings keep the order
+     * they are listed in.
+     */
+    static int defaultWeight(int index) {
+        return 1 << (MAX_READINGS - 1 - index);
+    }
+
+    private static PolyphonyTable fromPacked(TreeMap<Character, char[]> entries) {
+        final int size = entries.size();
+        char[] keys = new char[size];
+        char[] keySets = new char[size];
+        HashMap<String, Integer> setIndex = new HashMap<String, Integer>();
+        int[] sets = new int[size + 1];
+        StringBuilder ids = new StringBuilder();
+        int setCount = 1;
+        int i = 0;
+        StringBuilder weights = new StringBuilder();
+        for (Map.Entry<Character, char[]> entry : entries.entrySet()) {
+            char[] setEntry = entry.getValue();
+            int count = setEntry.length / 2;
+            String key = new String(setEntry);
+            Integer set = setIndex.get(key);
+            if (set == null) {
+                sets[setCount] = (ids.length() << COUNT_BITS) | count;
+                ids.append(setEntry, 0, count);
+                weights.append(setEntry, count, count);
+                set = setCount++;
+                setIndex.put(key, set);
+            }
+            keys[i] = entry.getKey();
+            keySets[i] = (char) set.intValue();
+            i++;
+        }
+        char[] idArray = new char[ids.length()];
+        ids.getChars(0, idArray.length, idArray, 0);
+        char[] weightArray = new char[weights.length()];
+        weights.getChars(0, weightArray.length, weightArray, 0);
+        return new PolyphonyTable(keys, keySets, Arrays.copyOf(sets, setCount), idArray,
+                weightArray);
+    }
+
+    /**
+     * Build a table from the strings returned by {@link #encode()}.
+     */
+    static PolyphonyTable decode(String keys, String keySets, String sets) {
+        final int length = sets.length();
+        int setCount = 1;
+        for (int i = 0; i < length; i += sets.charAt(i) * 2 + 1) {
+            setCount++;
+        }
+        int[] packed = new int[setCount];
+        char[] ids = new char[(length - (setCount - 1)) / 2];
+        char[] weights = new char[ids.length];
+        int idCount = 0;
+        int set = 1;
+        for (int i = 0; i < length; set++) {
+            int count = sets.charAt(i++);
+            packed[set] = (idCount << COUNT_BITS) | count;
+            sets.getChars(i, i + count, ids, idCount);
+            i += count;
+            sets.getChars(i, i + count, weights, idCount);
+            i += count;
+            idCount += count;
+        }
+        return new PolyphonyTable(keys.toCharArray(), keySets.toCharArray(), packed, ids,
+                weights);
+    }
+
+    /**
+     * The compact form of the table: the chars in ascending order, the
+     * reading set of each char, and the sets, each written as its count
+     * followed by its packed readings and their weights. Set numbers start
+     * at 1.
+     */
+    String[] encode() {
+        StringBuilder sets = new StringBuilder();
+        for (int set = 1; set < mSets.length; set++) {
+            int packed = mSets[set];
+            int count = packed & COUNT_MASK;
+            int offset = packed >>> COUNT_BITS;
+            sets.append((char) count).append(mIds, offset, count)
+                    .append(mWeights, offset, count);
+        }
+        char[] keySets = new char[mKeys.length];
+        for (int i = 0; i < mKeys.length; i++) {
+            keySets[i] = mSlots.get(slotOf(mKeys[i]));
+        }
+        return new String[] { new String(mKeys), new String(keySets), sets.toString() };
+    }
+
+    /**
+     * @param keys the chars, ascending
+     * @param keySets the reading set of each char
+     * @param sets the packed reading sets, starting at index 1
+     * @param ids syllable ids of the reading sets
+     * @param weights weights of the ids
+     */
+    private PolyphonyTable(char[] keys, char[] keySets, int[] sets, char[] ids,
+            char[] weights) {
+        mKeys = keys;
+        mSets = sets;
+        mIds = ids;
+        mWeights = weights;
+        mPages = new int[PAGE_COUNT];
+        int pageCount = 1;
+        for (char c : keys) {
+            int page = c >>> PAGE_SHIFT;
+            if (mPages[page] == 0) {
+                mPages[page] = pageCount++ << PAGE_SHIFT;
+            }
+        }
+        char[] slots = new char[pageCount << PAGE_SHIFT];
+        for (int i = 0; i < keys.length; i++) {
+            slots[slotOf(keys[i])] = keySets[i];
+        }
+        mSlots = CharBuffer.wrap(slots);
+        mReadings = buildReadings(sets, ids);
+        mReadingLists = buildLists(mReadings);
+        mPreferred = buildPreferred(sets, weights, mReadings);
+        mKeyBits = buildKeyBits(keys);
+        mLowest = keys.length > 0 ? keys[0] : Character.MAX_VALUE + 1;
+        mHighest = keys.length > 0 ? keys[keys.length - 1] : -1;
+    }
+
+    private PolyphonyTable(char[] keys, int[] pages, CharBuffer slots, int[] sets, char[] ids,
+            char[] weights) {
+        mKeys = keys;
+        mPages = pages;
+        mSlots = slots;
+        mSets = sets;
+        mIds = ids;
+        mWeights = weights;
+        mReadings = buildReadings(sets, ids);
+        mReadingLists = buildLists(mReadings);
+        mPreferred = buildPreferred(sets, weights, mReadings);
+        mKeyBits = buildKeyBits(keys);
+        mLowest = keys.length > 0 ? keys[0] : Character.MAX_VALUE + 1;
+        mHighest = keys.length > 0 ? keys[keys.length - 1] : -1;
+    }
+
+    private static String[][] buildReadings(int[] sets, char[] ids) {
+        String[][] readings = new String[sets.length][];
+        for (int set = 1; set < sets.length; set++) {
+            int packed = sets[set];
+            int offset = packed >>> COUNT_BITS;
+            String[] setReadings = new String[packed & COUNT_MASK];
+            for (int k = 0; k < setReadings.length; k++) {
+                setReadings[k] = SyllablePool.get(ids[offset + k] & PinyinReading.ID_MASK);
+            }
+            readings[set] = setReadings;
+        }
+        return readings;
+    }
+
+    private static String[] buildPreferred(int[] sets, char[] weights, String[][] readings) {
+        String[] preferred = new String[sets.length];
+        for (int set = 1; set < sets.length; set++) {
+            int offset = sets[set] >>> COUNT_BITS;
+            int best = 0;
+            for (int k = 1; k < readings[set].length; k++) {
+                if (weights[offset + k] > weights[offset + best]) {
+                    best = k;
+                }
+            }
+            preferred[set] = readings[set][best];
+        }
+        return preferred;
+    }
+
+    private static long[] buildKeyBits(char[] keys) {
+        long[] bits = new long[(Character.MAX_VALUE + 1) >>> 6];
+        for (char key : keys) {
+            bits[key >>> 6] |= 1L << key;
+        }
+        return bits;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static List<String>[] buildLists(String[][] readings) {
+        List<String>[] lists = new List[readings.length];
+        for (int set = 1; set < readings.length; set++) {
+            lists[set] = Collections.unmodifiableList(Arrays.asList(readings[set].clone()));
+        }
+        return lists;
+    }
+
+    /**
+     * A copy of this table with entries replaced, see {@link #parseReadings}.
+     * An empty entry removes the char.
+     */
+    PolyphonyTable withEntries(Map<Character, char[]> entries) {
+        TreeMap<Character, char[]> merged = new TreeMap<Character, char[]>();
+        for (char key : mKeys) {
+            int packed = getPacked(key);
+            int offset = packed >>> COUNT_BITS;
+            int count = packed & COUNT_MASK;
+            char[] entry = new char[count * 2];
+            System.arraycopy(mIds, offset, entry, 0, count);
+            System.arraycopy(mWeights, offset, entry, count, count);
+            merged.put(key, entry);
+        }
+        for (Map.Entry<Character, char[]> entry : entries.entrySet()) {
+            if (entry.getValue().length == 0) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return fromPacked(merged);
+    }
+
+    /**
+     * Write the binary form of the table: the key, page, set and id counts,
+     * then the pages, slots, keys, packed sets, packed readings and their
+     * weights, all big endian. Syllable ids are those of {@link SyllablePool}.
+     */
+    void write(DataOutputStream out) throws IOException {
+        final int slotCount = mSlots.capacity();
+        out.writeInt(mKeys.length);
+        out.writeInt(slotCount >>> PAGE_SHIFT);
+        out.writeInt(mSets.length);
+        out.writeInt(mIds.length);
+        for (int page : mPages) {
+            out.writeInt(page);
+        }
+        for (int i = 0; i < slotCount; i++) {
+            out.writeChar(mSlots.get(i));
+        }
+        for (char key : mKeys) {
+            out.writeChar(key);
+        }
+        for (int set : mSets) {
+            out.writeInt(set);
+        }
+        for (char id : mIds) {
+            out.writeChar(id);
+        }
+        for (char weight : mWeights) {
+            out.writeChar(weight);
+        }
+    }
+
+    /**
+     * Read a table written by {@link #write} at the position of the buffer,
+     * and move the position past it. The slots stay in the buffer, all
+     * other parts are copied.
+     *
+     * @param idMap maps the syllable ids of the buffer to SyllablePool ids
+     * @param hasWeights false for tables written before weights were added,
+     *        whose readings then get their default weights
+     */
+    static PolyphonyTable read(ByteBuffer buffer, char[] idMap, boolean hasWeights) {
+        final int keyCount = buffer.getInt();
+        final int pageCount = buffer.getInt();
+        final int setCount = buffer.getInt();
+        final int idCount = buffer.getInt();
+        if (keyCount < 0 || pageCount < 1 || pageCount > PAGE_COUNT + 1
+                || setCount < 1 || idCount < 0) {
+            throw new IllegalArgumentException("Bad table header");
+        }
+        // Checked before anything is allocated, so that a corrupt count
+        // fails as a bad file rather than running out of memory.
+        final int slotCount = pageCount << PAGE_SHIFT;
+        long size = PAGE_COUNT * 4L + slotCount * 2L + keyCount * 2L + setCount * 4L
+                + idCount * (hasWeights ? 4L : 2L);
+        if (keyCount > Character.MAX_VALUE + 1 || size > buffer.remaining()) {
+            throw new IllegalArgumentException("Table of " + size + " bytes in "
+                    + buffer.remaining());
+        }
+        int[] pages = new int[PAGE_COUNT];
+        buffer.asIntBuffer().get(pages);
+        buffer.position(buffer.position() + PAGE_COUNT * 4);
+        for (int page : pages) {
+            if (page < 0 || page >= pageCount << PAGE_SHIFT || (page & PAGE_MASK) != 0) {
+                throw new IllegalArgumentException("Bad page offset " + page);
+            }
+        }
+        ByteBuffer slotBytes = buffer.slice();
+        slotBytes.limit(slotCount * 2);
+        CharBuffer slots = slotBytes.asCharBuffer();
+        buffer.position(buffer.position() + slotCount * 2);
+        char[] keys = new char[keyCount];
+        buffer.asCharBuffer().get(keys);
+        buffer.position(buffer.position() + keyCount * 2);
+        int[] sets = new int[setCount];
+        buffer.asIntBuffer().get(sets);
+        buffer.position(buffer.position() + setCount * 4);
+        char[] ids = new char[idCount];
+        buffer.asCharBuffer().get(ids);
+        buffer.position(buffer.position() + idCount * 2);
+        char[] weights = new char[idCount];
+        if (hasWeights) {
+            buffer.asCharBuffer().get(weights);
+            buffer.position(buffer.position() + idCount * 2);
+        }
+
+        for (int i = 0; i < slotCount; i++) {
+            if (slots.get(i) >= setCount) {
+                throw new IllegalArgumentException("Bad reading set at slot " + i);
+            }
+        }
+        // The block skipping of scan() and indexOfKey() relies on the keys
+        // being sorted, and on them being exactly the chars with a set.
+        for (int i = 1; i < keyCount; i++) {
+            if (keys[i] <= keys[i - 1]) {
+                throw new IllegalArgumentException("Keys out of order at " + i);
+            }
+        }
+        for (int c = 0, k = 0; c <= Character.MAX_VALUE; c++) {
+            boolean isKey = k < keyCount && keys[k] == c;
+            if (isKey) {
+                k++;
+            }
+            int slot = pages[c >>> PAGE_SHIFT] | (c & PAGE_MASK);
+            if ((slots.get(slot) != 0) != isKey) {
+                throw new IllegalArgumentException("Slot and keys disagree on " + c);
+            }
+        }
+        if (sets[0] != 0) {
+            throw new IllegalArgumentException("Bad empty reading set");
+        }
+        for (int set = 1; set < setCount; set++) {
+            int packed = sets[set];
+            int count = packed & COUNT_MASK;
+            int offset = packed >>> COUNT_BITS;
+            if (count == 0 || offset + count > idCount) {
+                throw new IllegalArgumentException("Bad reading set " + set);
+            }
+            for (int k = 0; k < count; k++) {
+                if (!hasWeights) {
+                    weights[offset + k] = (char) defaultWeight(k);
+                } else if (weights[offset + k] == 0) {
+                    throw new IllegalArgumentException("Bad weight in reading set " + set);
+                }
+            }
+        }
+        for (int i = 0; i < idCount; i++) {
+            int id = ids[i] & PinyinReading.ID_MASK;
+            int tone = PinyinReading.getTone(ids[i]);
+            if (id >= idMap.length || tone > PinyinReading.TONE_NEUTRAL) {
+                throw new IllegalArgumentException("Bad reading " + (int) ids[i]);
+            }
+            ids[i] = (char) ((tone << PinyinReading.TONE_SHIFT) | idMap[id]);
+        }
+        return new PolyphonyTable(keys, pages, slots, sets, ids, weights);
+    }
+
+    /**
+     * Index of the first char of {@code text[from, end)} that is in the
+     * table, or {@code end} if there is none.
+     */
+    int indexOfKey(char[] text, int from, int end) {
+        final int lowest = mLowest;
+        final int highest = mHighest;
+        int i = from;
+        for (; i <= end - BLOCK; i += BLOCK) {
+            // The OR of the chars is at least the highest of them and the AND
+            // at most the lowest, so one compare each clears the block.
+            char c0 = text[i], c1 = text[i + 1], c2 = text[i + 2], c3 = text[i + 3];
+            char c4 = text[i + 4], c5 = text[i + 5], c6 = text[i + 6], c7 = text[i + 7];
+            if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) < lowest
+                    || (c0 & c1 & c2 & c3 & c4 & c5 & c6 & c7) > highest) {
+                continue;
+            }
+            for (int j = i; j < i + BLOCK; j++) {
+                if (isKey(text[j])) {
+                    return j;
+                }
+            }
+        }
+        for (; i < end; i++) {
+            if (isKey(text[i])) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Add every char of {@code text[from, end)} that is in the table to the
+     * result.
+     */
+    void scan(char[] text, int from, int end, PolyphonyScanResult result) {
+        final int lowest = mLowest;
+        final int highest = mHighest;
+        int i = from;
+        for (; i <= end - BLOCK; i += BLOCK) {
+            char c0 = text[i], c1 = text[i + 1], c2 = text[i + 2], c3 = text[i + 3];
+            char c4 = text[i + 4], c5 = text[i + 5], c6 = text[i + 6], c7 = text[i + 7];
+            if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) < lowest
+                    || (c0 & c1 & c2 & c3 & c4 & c5 & c6 & c7) > highest) {
+                continue;
+            }
+            addIfKey(c0, i, result);
+            addIfKey(c1, i + 1, result);
+            addIfKey(c2, i + 2, result);
+            addIfKey(c3, i + 3, result);
+            addIfKey(c4, i + 4, result);
+            addIfKey(c5, i + 5, result);
+            addIfKey(c6, i + 6, result);
+            addIfKey(c7, i + 7, result);
+        }
+        for (; i < end; i++) {
+            addIfKey(text[i], i, result);
+        }
+    }
+
+    /**
+     * Like {@link #scan(char[], int, int, PolyphonyScanResult)} for a
+     * CharSequence.
+     */
+    void scan(CharSequence text, int from, int end, PolyphonyScanResult result) {
+        final int lowest = mLowest;
+        final int highest = mHighest;
+        int i = from;
+        for (; i <= end - BLOCK; i += BLOCK) {
+            char c0 = text.charAt(i), c1 = text.charAt(i + 1);
+            char c2 = text.charAt(i + 2), c3 = text.charAt(i + 3);
+            char c4 = text.charAt(i + 4), c5 = text.charAt(i + 5);
+            char c6 = text.charAt(i + 6), c7 = text.charAt(i + 7);
+            if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) < lowest
+                    || (c0 & c1 & c2 & c3 & c4 & c5 & c6 & c7) > highest) {
+                continue;
+            }
+            addIfKey(c0, i, result);
+            addIfKey(c1, i + 1, result);
+            addIfKey(c2, i + 2, result);
+            addIfKey(c3, i + 3, result);
+            addIfKey(c4, i + 4, result);
+            addIfKey(c5, i + 5, result);
+            addIfKey(c6, i + 6, result);
+            addIfKey(c7, i + 7, result);
+        }
+        for (; i < end; i++) {
+            addIfKey(text.charAt(i), i, result);
+        }
+    }
+
+    private void addIfKey(char c, int position, PolyphonyScanResult result) {
+        if (isKey(c)) {
+            result.add(position, mSlots.get(slotOf(c)));
+        }
+    }
+
+    private boolean isKey(char c) {
+        return (mKeyBits[c >>> 6] & (1L << c)) != 0;
+    }
+
+    private int slotOf(char c) {
+        return mPages[c >>> PAGE_SHIFT] | (c & PAGE_MASK);
+    }
+
+    boolean contains(char c) {
+        return mSlots.get(slotOf(c)) != 0;
+    }
+
+    /**
+     * @return the readings of the char, or null if it is not in the table
+     */
+    String[] get(char c) {
+        return mReadings[mSlots.get(slotOf(c))];
+    }
+
+    /**
+     * @return the heaviest reading of the char, the first listed among
+     *         equals, or null if it is not in the table
+     */
+    String getPreferred(char c) {
+        return mPreferred[mSlots.get(slotOf(c))];
+    }
+
+    /**
+     * @return the reading set of the char, or 0 if it is not in the table
+     */
+    int setOf(char c) {
+        return mSlots.get(slotOf(c));
+    }
+
+    /**
+     * Like {@link #setOf(char)} for a code point. Tables only hold chars of
+     * the Basic Multilingual Plane, so other code points are never found.
+     */
+    int setOfCodePoint(int codePoint) {
+        return (codePoint >>> Character.SIZE) == 0 ? setOf((char) codePoint) : 0;
+    }
+
+    String[] readingsOf(int set) {
+        return mReadings[set];
+    }
+
+    /**
+     * @return the readings of the char as an unmodifiable list, or null if
+     *         it is not in the table
+     */
+    List<String> getList(char c) {
+        return mReadingLists[mSlots.get(slotOf(c))];
+    }
+
+    int packedOf(int set) {
+        return mSets[set];
+    }
+
+    /**
+     * @return the packed reading set of the char, or 0 if it is not in the table
+     */
+    int getPacked(char c) {
+        return mSets[mSlots.get(slotOf(c))];
+    }
+
+    /**
+     * Syllable id at {@code index} of a packed reading set.
+     */
+    int syllableId(int packed, int index) {
+        return mIds[(packed >>> COUNT_BITS) + index] & PinyinReading.ID_MASK;
+    }
+
+    /**
+     * Packed reading, see {@link PinyinReading}, at {@code index} of a
+     * packed reading set.
+     */
+    int reading(int packed, int index) {
+        return mIds[(packed >>> COUNT_BITS) + index];
+    }
+
+    /**
+     * Weight of the reading at {@code index} of a packed reading set.
+     */
+    int weight(int packed, int index) {
+        return mWeights[(packed >>> COUNT_BITS) + index];
+    }
+
+    /**
+     * Copies the syllable ids of the char into {@code dst}.
+     *
+     * @return the number of ids written, 0 if the char is not in the table
+     */
+    int getIds(char c, int[] dst, int dstOffset) {
+        int packed = getPacked(c);
+        int count = packed & COUNT_MASK;
+        int offset = packed >>> COUNT_BITS;
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = mIds[offset + i] & PinyinReading.ID_MASK;
+        }
+        return count;
+    }
+
+    /**
+     * Copies the packed readings of the char into {@code dst}.
+     *
+     * @return the number of readings written, 0 if the char is not in the table
+     */
+    int getReadings(char c, int[] dst, int dstOffset) {
+        int packed = getPacked(c);
+        int count = packed & COUNT_MASK;
+        int offset = packed >>> COUNT_BITS;
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = mIds[offset + i];
+        }
+        return count;
+    }
+
+    /**
+     * Copies the weights of the readings of the char into {@code dst}, in
+     * the order of {@link #getReadings}.
+     *
+     * @return the number of weights written, 0 if the char is not in the table
+     */
+    int getWeights(char c, int[] dst, int dstOffset) {
+        int packed = getPacked(c);
+        int count = packed & COUNT_MASK;
+        int offset = packed >>> COUNT_BITS;
+        for (int i = 0; i < count; i++) {
+            dst[dstOffset + i] = mWeights[offset + i];
+        }
+        return count;
+    }
+
+    int size() {
+        return mKeys.length;
+    }
+
+    /**
+     * All chars of the table, ascending. Do not modify the returned array.
+     */
+    char[] keys() {
+        return mKeys;
+    }
+
+    /**
+     * The chars of the table by syllable, built on first use.
+     */
+    SyllableIndex index() {
+        SyllableIndex index = mIndex;
+        if (index == null) {
+            index = SyllableIndex.build(this);
+            mIndex = index;
+        }
+        return index;
+    }
+}
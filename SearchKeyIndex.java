@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pinyin search keys of a batch of names, built in parallel.
+ *
+ * For every name there is one full pinyin key (e.g. "SHENLE") and one
+ * initials key (e.g. "SL") per distinct reading combination of
+ * {@link PinyinHelper#getNameReadings(CharSequence)}. Han chars without
+ * polyphony take {@link PinyinHelper#getPinyin(int)}, so 张三 gives
+ * "ZHANGSAN" and "ZS"; other chars are kept as they are, but ASCII
+ * letters in upper case, so "Tom 李" gives "TOM LI" and "TOM L". Keys of
+ * name i are always at index i, and within a name they follow the
+ * combination order, so the output does not depend on the number of
+ * threads.
+ */
+public final class SearchKeyIndex {
+
+    /**
+     * Default cap on the reading combinations expanded per name.
+     */
+    public static final int DEFAULT_MAX_COMBINATIONS = 256;
+
+    // Names handled by one task without further splitting.
+    private static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private final String[][] mFullPinyinKeys;
+    private final String[][] mInitialsKeys;
+    private final boolean[] mTruncated;
+
+    private SearchKeyIndex(int size) {
+        mFullPinyinKeys = new String[size][];
+        mInitialsKeys = new String[size][];
+        mTruncated = new boolean[size];
+    }
+
+    /**
+     * Build the keys of all names in the common fork-join pool. The list is
+     * read from many threads at once, so it should support fast random
+     * access and must not change during the build. Names with more than
+     * {@link #DEFAULT_MAX_COMBINATIONS} reading combinations only get the
+     * keys of the first ones, see {@link #isTruncated(int)}.
+     */
+    public static SearchKeyIndex build(List<? extends CharSequence> names) {
+        return build(names, DEFAULT_MAX_COMBINATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Build the keys of all names in the given pool.
+     *
+     * @param maxCombinations max reading combinations expanded per name,
+     *        further combinations are dropped and the name is marked
+     *        {@link #isTruncated(int) truncated}
+     */
+    public static SearchKeyIndex build(List<? extends CharSequence> names,
+            int maxCombinations, ForkJoinPool pool) {
+        if (maxCombinations < 1) {
+            throw new IllegalArgumentException("maxCombinations < 1: " + maxCombinations);
+        }
+        SearchKeyIndex index = new SearchKeyIndex(names.size());
+        pool.invoke(new BuildTask(index, names, maxCombinations, 0, names.size()));
+        return index;
+    }
+
+    public int size() {
+        return mFullPinyinKeys.length;
+    }
+
+    /**
+     * Whether name i has more reading combinations than were expanded, so
+     * some of its readings have no key.
+     */
+    public boolean isTruncated(int i) {
+        return mTruncated[i];
+    }
+
+    /**
+     * Full pinyin keys of name i, without separators between syllables.
+     */
+    public String[] getFullPinyinKeys(int i) {
+        return mFullPinyinKeys[i].clone();
+    }
+
+    /**
+     * Initials keys of name i, one letter per char.
+     */
+    public String[] getInitialsKeys(int i) {
+        return mInitialsKeys[i].clone();
+    }
+
+    private void buildKeys(int i, CharSequence name, int maxCombinations,
+            StringBuilder full, StringBuilder initials) {
+        LinkedHashSet<String> fullKeys = new LinkedHashSet<String>();
+        LinkedHashSet<String> initialsKeys = new LinkedHashSet<String>();
+        Iterator<String[]> combinations = PinyinHelper.getNameReadings(name).iterator();
+        // Readings of the chars without polyphony, the same in every combination.
+        String[] plain = null;
+        for (int n = 0; n < maxCombinations && combinations.hasNext(); n++) {
+            String[] combination = combinations.next();
+            if (plain == null) {
+                plain = plainReadings(name, combination);
+            }
+            full.setLength(0);
+            initials.setLength(0);
+            for (int k = 0; k < combination.length; ) {
+                int codePoint = Character.codePointAt(name, k);
+                String reading = combination[k] != null ? combination[k] : plain[k];
+                if (reading != null) {
+                    full.append(reading);
+                    initials.append(reading.charAt(0));
+                } else {
+                    // Upper case, as InitialsTrie.Cursor folds typed letters.
+                    if (codePoint >= 'a' && codePoint <= 'z') {
+                        codePoint -= 'a' - 'A';
+                    }
+                    full.appendCodePoint(codePoint);
+                    initials.appendCodePoint(codePoint);
+                }
+                k += Character.charCount(codePoint);
+            }
+            fullKeys.add(full.toString());
+            initialsKeys.add(initials.toString());
+        }
+        mTruncated[i] = combinations.hasNext();
+        mFullPinyinKeys[i] = fullKeys.toArray(new String[fullKeys.size()]);
+        mInitialsKeys[i] = initialsKeys.toArray(new String[initialsKeys.size()]);
+    }
+
+    /**
+     * @return the syllable of {@link PinyinHelper#getPinyinReading(int)} of
+     *         each char without a reading in the combination, null for
+     *         chars that are not Han
+     */
+    private static String[] plainReadings(CharSequence name, String[] combination) {
+        String[] plain = new String[combination.length];
+        for (int k = 0; k < combination.length; ) {
+            int codePoint = Character.codePointAt(name, k);
+            if (combination[k] == null) {
+                int reading = PinyinHelper.getPinyinReading(codePoint);
+                if (reading >= 0) {
+                    plain[k] = SyllablePool.get(reading & PinyinReading.ID_MASK);
+                }
+            }
+            k += Character.charCount(codePoint);
+        }
+        return plain;
+    }
+
+    private static final class BuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final SearchKeyIndex mIndex;
+        private final List<? extends CharSequence> mNames;
+        private final int mMaxCombinations;
+        private final int mStart;
+        private final int mEnd;
+
+        BuildTask(SearchKeyIndex index, List<? extends CharSequence> names,
+                int maxCombinations, int start, int end) {
+            mIndex = index;
+            mNames = names;
+            mMaxCombinations = maxCombinations;
+            mStart = start;
+            mEnd = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (mEnd - mStart <= SEQUENTIAL_THRESHOLD) {
+                StringBuilder full = new StringBuilder();
+                StringBuilder initials = new StringBuilder();
+                for (int i = mStart; i < mEnd; i++) {
+                    mIndex.buildKeys(i, mNames.get(i), mMaxCombinations, full, initials);
+                }
+                return;
+            }
+            int middle = (mStart + mEnd) >>> 1;
+            invokeAll(new BuildTask(mIndex, mNames, mMaxCombinations, mStart, middle),
+                    new BuildTask(mIndex, mNames, mMaxCombinations, middle, mEnd));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+
+/**
+ * The chars of a polyphony or family name table by reading: every char
+ * that can be read as CHEN, or as any syllable starting with "ZH". See
+ * {@link PinyinHelper#getPolyphonyIndex()}.
+ *
+ * The index is two arrays in compressed sparse row form: the chars of
+ * syllable id s are {@code chars[offsets[s], offsets[s + 1])}, ascending.
+ * Syllable ids are in alphabetical order, so the chars of all syllables
+ * with a common prefix are one range of the char array as well. Tones are
+ * ignored.
+ *
+ * Built once per table on first use, in one counting pass over its
+ * entries. Immutable and safe to share between threads.
+ */
+public final class SyllableIndex {
+
+    private final int[] mOffsets;
+    private final char[] mChars;
+
+    private SyllableIndex(int[] offsets, char[] chars) {
+        mOffsets = offsets;
+        mChars = chars;
+    }
+
+    /**
+     * Invert a table: count the chars of each syllable, turn the counts
+     * into offsets, then place every char. Keys are visited in ascending
+     * order, so each row comes out sorted.
+     */
+    static SyllableIndex build(PolyphonyTable table) {
+        final int syllables = SyllablePool.size();
+        final char[] keys = table.keys();
+        int[] offsets = new int[syllables + 1];
+        for (char c : keys) {
+            int packed = table.getPacked(c);
+            for (int k = 0, count = packed & PolyphonyTable.COUNT_MASK; k < count; k++) {
+                offsets[table.syllableId(packed, k) + 1]++;
+            }
+        }
+        for (int s = 0; s < syllables; s++) {
+            offsets[s + 1] += offsets[s];
+        }
+        char[] chars = new char[offsets[syllables]];
+        int[] next = Arrays.copyOf(offsets, syllables);
+        for (char c : keys) {
+            int packed = table.getPacked(c);
+            for (int k = 0, count = packed & PolyphonyTable.COUNT_MASK; k < count; k++) {
+                chars[next[table.syllableId(packed, k)]++] = c;
+            }
+        }
+        return new SyllableIndex(offsets, chars);
+    }
+
+    /**
+     * Number of (syllable, char) entries.
+     */
+    public int size() {
+        return mChars.length;
+    }
+
+    /**
+     * Number of chars that can be read as the syllable.
+     *
+     * @param syllableId see {@link PinyinHelper#getSyllableId}
+     */
+    public int getCharCount(int syllableId) {
+        return mOffsets[syllableId + 1] - mOffsets[syllableId];
+    }
+
+    /**
+     * Copies the chars that can be read as the syllable into {@code dst},
+     * ascending.
+     *
+     * @param dst must have room for {@link #getCharCount(int)} chars
+     * @return the number of chars written
+     */
+    public int getChars(int syllableId, char[] dst, int dstOffset) {
+        int start = mOffsets[syllableId];
+        int count = mOffsets[syllableId + 1] - start;
+        System.arraycopy(mChars, start, dst, dstOffset, count);
+        return count;
+    }
+
+    /**
+     * The chars that can be read as the syllable, ascending, e.g. "沈谌"
+     * for CHEN in the family name index.
+     *
+     * @param syllable uppercase, U+00FC written as V
+     * @return the chars, empty if there are none or the syllable is unknown
+     */
+    public String getChars(String syllable) {
+        int id = SyllablePool.idOf(syllable);
+        if (id < 0) {
+            return "";
+        }
+        int start = mOffsets[id];
+        return new String(mChars, start, mOffsets[id + 1] - start);
+    }
+
+    /**
+     * Whether the char can be read as the syllable.
+     */
+    public boolean contains(int syllableId, char c) {
+        return Arrays.binarySearch(mChars, mOffsets[syllableId], mOffsets[syllableId + 1], c)
+                >= 0;
+    }
+
+    /**
+     * The chars that can be read as any syllable starting with the prefix,
+     * ascending and each once: "ZH" gives the chars of ZHA to ZHUO. Useful
+     * for a partly typed syllable.
+     *
+     * @param prefix uppercase, U+00FC written as V
+     * @return the chars, empty if there are none
+     */
+    public String getCharsWithPrefix(String prefix) {
+        int range = SyllablePool.prefixRange(prefix);
+        int start = mOffsets[range >>> 16];
+        int end = mOffsets[range & 0xffff];
+        if (end - start <= 1) {
+            return new String(mChars, start, end - start);
+        }
+        char[] chars = Arrays.copyOfRange(mChars, start, end);
+        Arrays.sort(chars);
+        int count = 1;
+        for (int i = 1; i < chars.length; i++) {
+            if (chars[i] != chars[count - 1]) {
+                chars[count++] = chars[i];
+            }
+        }
+        return new String(chars, 0, count);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+
+/**
+ * The inventory of toneless Mandarin syllables, each stored once.
+ *
+ * Syllables are uppercase, with U+00FC written as "V" (LV, NVE), and are
+ * identified by their index in alphabetical order, so comparing two ids
+ * gives the same result as comparing the syllables themselves. Ids are
+ * stable for a given build of this class only; do not persist them.
+ */
+final class SyllablePool {
+
+    private SyllablePool(){};
+
+    // Sorted, the id of a syllable is its index.
+    private static final String[] SYLLABLES = {
+        "A", "AI", "AN", "ANG", "AO",
+        "BA", "BAI", "BAN", "BANG", "BAO", "BEI", "BEN", "BENG", "BI", "BIAN", "BIANG", "BIAO",
+        "BIE", "BIN", "BING", "BO", "BU",
+        "CA", "CAI", "CAN", "CANG", "CAO", "CE", "CEI", "CEN", "CENG", "CHA", "CHAI", "CHAN",
+        "CHANG", "CHAO", "CHE", "CHEN", "CHENG", "CHI", "CHONG", "CHOU", "CHU", "CHUA", "CHUAI",
+        "CHUAN", "CHUANG", "CHUI", "CHUN", "CHUO", "CI", "CONG", "COU", "CU", "CUAN", "CUI", "CUN",
+        "CUO",
+        "DA", "DAI", "DAN", "DANG", "DAO", "DE", "DEI", "DEN", "DENG", "DI", "DIA", "DIAN", "DIAO",
+        "DIE", "DIN", "DING", "DIU", "DONG", "DOU", "DU", "DUAN", "DUI", "DUN", "DUO",
+        "E", "EI", "EN", "ENG", "ER",
+        "FA", "FAN", "FANG", "FEI", "FEN", "FENG", "FIAO", "FO", "FOU", "FU",
+        "GA", "GAI", "GAN", "GANG", "GAO", "GE", "GEI", "GEN", "GENG", "GONG", "GOU", "GU", "GUA",
+        "GUAI", "GUAN", "GUANG", "GUI", "GUN", "GUO",
+        "HA", "HAI", "HAN", "HANG", "HAO", "HE", "HEI", "HEN", "HENG", "HM", "HNG", "HONG", "HOU",
+        "HU", "HUA", "HUAI", "HUAN", "HUANG", "HUI", "HUN", "HUO",
+        "JI", "JIA", "JIAN", "JIANG", "JIAO", "JIE", "JIN", "JING", "JIONG", "JIU", "JU", "JUAN",
+        "JUE", "JUN",
+        "KA", "KAI", "KAN", "KANG", "KAO", "KE", "KEI", "KEN", "KENG", "KONG", "KOU", "KU", "KUA",
+        "KUAI", "KUAN", "KUANG", "KUI", "KUN", "KUO",
+        "LA", "LAI", "LAN", "LANG", "LAO", "LE", "LEI", "LENG", "LI", "LIA", "LIAN", "LIANG",
+        "LIAO", "LIE", "LIN", "LING", "LIU", "LO", "LONG", "LOU", "LU", "LUAN", "LUN", "LUO", "LV",
+        "LVE",
+        "M", "MA", "MAI", "MAN", "MANG", "MAO", "ME", "MEI", "MEN", "MENG", "MI", "MIAN", "MIAO",
+        "MIE", "MIN", "MING", "MIU", "MO", "MOU", "MU",
+        "N", "NA", "NAI", "NAN", "NANG", "NAO", "NE", "NEI", "NEN", "NENG", "NG", "NI", "NIAN",
+        "NIANG", "NIAO", "NIE", "NIN", "NING", "NIU", "NONG", "NOU", "NU", "NUAN", "NUN", "NUO",
+        "NV", "NVE",
+        "O", "OU",
+        "PA", "PAI", "PAN", "PANG", "PAO", "PEI", "PEN", "PENG", "PI", "PIAN", "PIAO", "PIE",
+        "PIN", "PING", "PO", "POU", "PU",
+        "QI", "QIA", "QIAN", "QIANG", "QIAO", "QIE", "QIN", "QING", "QIONG", "QIU", "QU", "QUAN",
+        "QUE", "QUN",
+        "RAN", "RANG", "RAO", "RE", "REN", "RENG", "RI", "RONG", "ROU", "RU", "RUA", "RUAN", "RUI",
+        "RUN", "RUO",
+        "SA", "SAI", "SAN", "SANG", "SAO", "SE", "SEN", "SENG", "SHA", "SHAI", "SHAN", "SHANG",
+        "SHAO", "SHE", "SHEI", "SHEN", "SHENG", "SHI", "SHOU", "SHU", "SHUA", "SHUAI", "SHUAN",
+        "SHUANG", "SHUI", "SHUN", "SHUO", "SI", "SONG", "SOU", "SU", "SUAN", "SUI", "SUN", "SUO",
+        "TA", "TAI", "TAN", "TANG", "TAO", "TE", "TEI", "TENG", "TI", "TIAN", "TIAO", "TIE",
+        "TING", "TONG", "TOU", "TU", "TUAN", "TUI", "TUN", "TUO",
+        "WA", "WAI", "WAN", "WANG", "WEI", "WEN", "WENG", "WO", "WONG", "WU",
+        "XI", "XIA", "XIAN", "XIANG", "XIAO", "XIE", "XIN", "XING", "XIONG", "XIU", "XU", "XUAN",
+        "XUE", "XUN",
+        "YA", "YAN", "YANG", "YAO", "YE", "YI", "YIN", "YING", "YO", "YONG", "YOU", "YU", "YUAN",
+        "YUE", "YUN",
+        "ZA", "ZAI", "ZAN", "ZANG", "ZAO", "ZE", "ZEI", "ZEN", "ZENG", "ZHA", "ZHAI", "ZHAN",
+        "ZHANG", "ZHAO", "ZHE", "ZHEI", "ZHEN", "ZHENG", "ZHI", "ZHONG", "ZHOU", "ZHU", "ZHUA",
+        "ZHUAI", "ZHUAN", "ZHUANG", "ZHUI", "ZHUN", "ZHUO", "ZI", "ZONG", "ZOU", "ZU", "ZUAN",
+        "ZUI", "ZUN", "ZUO",
+    };
+
+    /**
+     * @return the id of the syllable, or -1 if it is not a known syllable
+     */
+    static int idOf(String syllable) {
+        int id = Arrays.binarySearch(SYLLABLES, syllable);
+        return id < 0 ? -1 : id;
+    }
+
+    /**
+     * @return the id of the first syllable that is not less than the text,
+     *         or {@link #size()} if there is none
+     */
+    static int lowerBound(String text) {
+        int id = Arrays.binarySearch(SYLLABLES, text);
+        return id < 0 ? -id - 1 : id;
+    }
+
+    /**
+     * @return the ids [start, end) of the syllables starting with the prefix,
+     *         as {@code (start << 16) | end}; start == end if there are none
+     */
+    static int prefixRange(String prefix) {
+        return (lowerBound(prefix) << 16) | lowerBound(prefix + Character.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #idOf(String)}, but fails for syllables outside the inventory.
+     */
+    static int intern(String syllable) {
+        int id = idOf(syllable);
+        if (id < 0) {
+            throw new IllegalArgumentException("Unknown pinyin syllable: " + syllable);
+        }
+        return id;
+    }
+
+    /**
+     * Like {@link #intern(String)} for the syllable text[start, end).
+     */
+    static int intern(CharSequence text, int start, int end) {
+        int low = 0;
+        int high = SYLLABLES.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = compare(SYLLABLES[middle], text, start, end);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        throw new IllegalArgumentException("Unknown pinyin syllable: "
+                + text.subSequence(start, end));
+    }
+
+    private static int compare(String syllable, CharSequence text, int start, int end) {
+        int length = Math.min(syllable.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            int diff = syllable.charAt(i) - text.charAt(start + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return syllable.length() - (end - start);
+    }
+
+    static String get(int id) {
+        return SYLLABLES[id];
+    }
+
+    static int size() {
+        return SYLLABLES.length;
+    }
+}
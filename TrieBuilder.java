@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util;
+
+import java.util.Arrays;
+
+/**
+ * A growable char trie, from which {@link InitialsTrie} and
+ * {@link PhraseDictionary} lay out their flat arrays. Node 0 is the root;
+ * the children of node n are mChildren[n][0, mChildCounts[n]), sorted by
+ * mLabels[n].
+ *
+ * Subclasses keep their data per node in arrays of their own, which they
+ * grow in {@link #growNodes}.
+ */
+abstract class TrieBuilder {
+
+    static final int ROOT = 0;
+    static final int INITIAL_CAPACITY = 64;
+
+    char[][] mLabels = new char[INITIAL_CAPACITY][];
+    int[][] mChildren = new int[INITIAL_CAPACITY][];
+    int[] mChildCounts = new int[INITIAL_CAPACITY];
+    int mNodeCount = 1;
+
+    /**
+     * Add the nodes of the key that are missing.
+     *
+     * @return the node of the whole key
+     */
+    int add(CharSequence key) {
+        int node = ROOT;
+        for (int i = 0; i < key.length(); i++) {
+            node = childOrAdd(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    private int childOrAdd(int node, char label) {
+        int count = mChildCounts[node];
+        char[] labels = mLabels[node];
+        int index = labels == null ? -1 : Arrays.binarySearch(labels, 0, count, label);
+        if (index >= 0) {
+            return mChildren[node][index];
+        }
+        index = -index - 1;
+        if (labels == null) {
+            mLabels[node] = labels = new char[2];
+            mChildren[node] = new int[2];
+        } else if (count == labels.length) {
+            mLabels[node] = labels = Arrays.copyOf(labels, count * 2);
+            mChildren[node] = Arrays.copyOf(mChildren[node], count * 2);
+        }
+        int[] children = mChildren[node];
+        System.arraycopy(labels, index, labels, index + 1, count - index);
+        System.arraycopy(children, index, children, index + 1, count - index);
+        int child = newNode();
+        labels[index] = label;
+        children[index] = child;
+        mChildCounts[node] = count + 1;
+        return child;
+    }
+
+    private int newNode() {
+        if (mNodeCount == mChildCounts.length) {
+            int capacity = mNodeCount * 2;
+            mLabels = Arrays.copyOf(mLabels, capacity);
+            mChildren = Arrays.copyOf(mChildren, capacity);
+            mChildCounts = Arrays.copyOf(mChildCounts, capacity);
+            growNodes(capacity);
+        }
+        return mNodeCount++;
+    }
+
+    /**
+     * Grow the arrays of node data to {@code capacity} nodes.
+     */
+    abstract void growNodes(int capacity);
+}
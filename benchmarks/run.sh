@@ -0,0 +1,22 @@
+#!/bin/sh
+#
+# Run the JMH suite with the GC profiler and store the results as JSON.
+#
+#   benchmarks/run.sh [label] [jmh options...]
+#
+# Results go to benchmarks/results/<label>.json (default: the current git
+# revision), so runs of different releases can be compared side by side.
+#
+# results/baseline.json holds the lookup and class init benchmarks run
+# against the original HashMap-based PinyinHelper (commit 58f4740), the
+# only ones that API supports. results/f2c62c5.json is the full suite at
+# the two-level table and initials trie revision.
+
+set -e
+cd "$(dirname "$0")"
+
+label=${1:-$(git rev-parse --short HEAD)}
+[ $# -gt 0 ] && shift
+
+mkdir -p results
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/$label.json" "$@"
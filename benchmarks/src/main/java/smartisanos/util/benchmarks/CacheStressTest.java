@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import smartisanos.util.PinyinHelper;
+import smartisanos.util.PolyphonyCache;
+
+/**
+ * Stress check of {@link PolyphonyCache} shared between threads: readers
+ * resolve more texts than the cache holds, so that sets are always full
+ * and evicting, while another thread keeps clearing the cache. Fails on
+ * the first exception or wrong result.
+ *
+ * Usage: java -cp benchmarks.jar smartisanos.util.benchmarks.CacheStressTest
+ * [--threads N] [--texts N] [--capacity N] [--seconds S]
+ */
+public final class CacheStressTest {
+
+    private CacheStressTest() {}
+
+    public static void main(String[] args) throws Exception {
+        int threads = 8;
+        int textCount = 12;
+        int capacity = 4;
+        int seconds = 10;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                usage();
+            } else if ("--threads".equals(args[i])) {
+                threads = Integer.parseInt(args[i + 1]);
+            } else if ("--texts".equals(args[i])) {
+                textCount = Integer.parseInt(args[i + 1]);
+            } else if ("--capacity".equals(args[i])) {
+                capacity = Integer.parseInt(args[i + 1]);
+            } else if ("--seconds".equals(args[i])) {
+                seconds = Integer.parseInt(args[i + 1]);
+            } else {
+                usage();
+            }
+        }
+
+        PinyinHelper.warmUp();
+        final String[] texts = NameCorpus.names(textCount, 13).toArray(new String[0]);
+        final List<?>[] expected = new List<?>[texts.length];
+        for (int t = 0; t < texts.length; t++) {
+            expected[t] = Arrays.asList(PinyinHelper.resolvePolyphony(texts[t]));
+        }
+        final PolyphonyCache cache = new PolyphonyCache(capacity);
+        final long end = System.nanoTime() + seconds * 1000000000L;
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final CountDownLatch done = new CountDownLatch(threads + 1);
+        final long[] lookups = new long[threads];
+        for (int n = 0; n < threads; n++) {
+            final int thread = n;
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = thread; System.nanoTime() < end && failure.get() == null;
+                                i++) {
+                            int t = i % texts.length;
+                            List<String> readings = cache.resolvePolyphony(texts[t]);
+                            if (!readings.equals(expected[t])) {
+                                throw new AssertionError("Wrong readings of " + texts[t]
+                                        + ": " + readings);
+                            }
+                            lookups[thread]++;
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }.start();
+        }
+        long clears = 0;
+        try {
+            while (System.nanoTime() < end && failure.get() == null) {
+                cache.clear();
+                clears++;
+            }
+        } finally {
+            done.countDown();
+        }
+        done.await();
+
+        long total = 0;
+        for (long count : lookups) {
+            total += count;
+        }
+        System.out.println(String.format("%d threads, %d texts, capacity %d, %d s: %d lookups,"
+                + " %d hits, %d evictions, %d clears", threads, texts.length,
+                cache.getCapacity(), seconds, total, cache.getHitCount(),
+                cache.getEvictionCount(), clears));
+        Throwable e = failure.get();
+        if (e != null) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: CacheStressTest [--threads N] [--texts N] [--capacity N]"
+                + " [--seconds S]");
+        System.exit(1);
+    }
+}
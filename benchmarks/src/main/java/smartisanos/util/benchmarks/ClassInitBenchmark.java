@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.benchmarks;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import smartisanos.util.PinyinHelper;
+
+/**
+ * Cost of loading and initializing PinyinHelper, i.e. what the first
+ * lookup of a process pays. Every invocation loads the class in a fresh
+ * class loader, so the tables are built again each time. A lookup only
+ * builds the table it needs, warmUp builds all of them.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(3)
+@State(Scope.Thread)
+public class ClassInitBenchmark {
+
+    private static final String HELPER = PinyinHelper.class.getName();
+
+    private URLClassLoader mLoader;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        URL location = PinyinHelper.class.getProtectionDomain().getCodeSource().getLocation();
+        mLoader = new URLClassLoader(new URL[] { location }, Object.class.getClassLoader());
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws Exception {
+        mLoader.close();
+    }
+
+    @Benchmark
+    public boolean firstLookup() throws Exception {
+        Class<?> helper = Class.forName(HELPER, true, mLoader);
+        return (Boolean) helper.getMethod("isPolyphony", char.class).invoke(null, '行');
+    }
+
+    @Benchmark
+    public boolean firstFamilyNameLookup() throws Exception {
+        Class<?> helper = Class.forName(HELPER, true, mLoader);
+        return (Boolean) helper.getMethod("isPolyphonyFamilyName", char.class)
+                .invoke(null, '单');
+    }
+
+    @Benchmark
+    public Object warmUp() throws Exception {
+        Class<?> helper = Class.forName(HELPER, true, mLoader);
+        return helper.getMethod("warmUp").invoke(null);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import smartisanos.util.PinyinHelper;
+import smartisanos.util.PolyphonyScanResult;
+import smartisanos.util.PolyphonySnapshot;
+
+/**
+ * Per-char lookups over a fixed block of chars, reported per char.
+ *
+ * "hit" chars are all polyphonic, "cjk" are names from {@link NameCorpus}
+ * (mostly misses), "ascii" never hit and "mixed" is chat-like text.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    private static final int CHARS = 4096;
+
+    @Param({ "hit", "cjk", "ascii", "mixed" })
+    public String mix;
+
+    private char[] mChars;
+    private String mText;
+    private final String[] mReadings = new String[CHARS];
+    private final PolyphonyScanResult mScanResult = new PolyphonyScanResult();
+
+    @Setup
+    public void setUp() {
+        String source;
+        if ("hit".equals(mix)) {
+            StringBuilder hits = new StringBuilder();
+            for (char c = '一'; c <= '鿿'; c++) {
+                if (PinyinHelper.isPolyphony(c)) {
+                    hits.append(c);
+                }
+            }
+            source = hits.toString();
+        } else if ("cjk".equals(mix)) {
+            StringBuilder names = new StringBuilder();
+            for (String name : NameCorpus.names(CHARS / 2, 42)) {
+                names.append(name);
+            }
+            source = names.toString();
+        } else if ("ascii".equals(mix)) {
+            source = NameCorpus.mixedText(CHARS, 0, 42);
+        } else {
+            source = NameCorpus.mixedText(CHARS, 40, 42);
+        }
+        mChars = new char[CHARS];
+        for (int i = 0; i < CHARS; i++) {
+            mChars[i] = source.charAt(i % source.length());
+        }
+        mText = new String(mChars);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int isPolyphony() {
+        int count = 0;
+        for (char c : mChars) {
+            if (PinyinHelper.isPolyphony(c)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public void getPolyphony(Blackhole blackhole) {
+        for (char c : mChars) {
+            blackhole.consume(PinyinHelper.getPolyphony(c));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public void getPolyphonyFromSnapshot(Blackhole blackhole) {
+        PolyphonySnapshot snapshot = PinyinHelper.getSnapshot();
+        for (char c : mChars) {
+            blackhole.consume(snapshot.getPolyphony(c));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int isPolyphonyFamilyName() {
+        int count = 0;
+        for (char c : mChars) {
+            if (PinyinHelper.isPolyphonyFamilyName(c)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public void getPolyphonyFamilyName(Blackhole blackhole) {
+        for (char c : mChars) {
+            blackhole.consume(PinyinHelper.getPolyphonyFamilyName(c));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int scanPolyphony() {
+        return PinyinHelper.scanPolyphony(mChars, 0, CHARS, mScanResult);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int scanPolyphonyText() {
+        return PinyinHelper.scanPolyphony(mText, mScanResult);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARS)
+    public int resolvePolyphony() {
+        return PinyinHelper.resolvePolyphony(mText, mReadings);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import smartisanos.util.FuzzyPinyin;
+import smartisanos.util.PinyinBatch;
+import smartisanos.util.PinyinCollator;
+import smartisanos.util.PinyinHelper;
+import smartisanos.util.PinyinReading;
+import smartisanos.util.PolyphonyCache;
+import smartisanos.util.PolyphonyScanResult;
+import smartisanos.util.SearchKeyIndex;
+
+/**
+ * Name-level operations over a corpus of {@link NameCorpus} names, reported
+ * per corpus pass. Divide by {@code names} for the cost of one name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NameBenchmark {
+
+    @Param({ "10000" })
+    public int names;
+
+    private List<String> mNames;
+    // Repeated chat messages, where a cache hit saves resolving a long text.
+    private List<String> mMessages;
+    private final PolyphonyScanResult mScanResult = new PolyphonyScanResult();
+    private final PolyphonyCache mCache = new PolyphonyCache(16384);
+    private final PolyphonyCache mMessageCache = new PolyphonyCache(1024);
+    private final PinyinCollator mCollator = new PinyinCollator();
+    private final PinyinBatch mBatch = new PinyinBatch(PinyinReading.FORMAT_PLAIN);
+    private final FuzzyPinyin mExact = new FuzzyPinyin(0);
+    private final FuzzyPinyin mFuzzy = new FuzzyPinyin(FuzzyPinyin.ALL);
+    private final long[][] mExactQuery = mExact.compile("ZHANG", "WEI");
+    private final long[][] mFuzzyQuery = mFuzzy.compile("ZAN", "WEI");
+
+    @Setup
+    public void setUp() {
+        mNames = NameCorpus.names(names, 7);
+        mMessages = NameCorpus.messages(names, 500, 80, 7);
+    }
+
+    @Benchmark
+    public void expandNameReadings(Blackhole blackhole) {
+        for (String name : mNames) {
+            for (String[] combination : PinyinHelper.getNameReadings(name)) {
+                blackhole.consume(combination);
+            }
+        }
+    }
+
+    @Benchmark
+    public void topNameReadings(Blackhole blackhole) {
+        for (String name : mNames) {
+            blackhole.consume(PinyinHelper.getNameReadings(name).getTopReadings(3));
+        }
+    }
+
+    @Benchmark
+    public int scanPolyphony() {
+        int count = 0;
+        for (String name : mNames) {
+            count += PinyinHelper.scanPolyphony(name, mScanResult);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void resolvePolyphony(Blackhole blackhole) {
+        for (String name : mNames) {
+            blackhole.consume(PinyinHelper.resolvePolyphony(name));
+        }
+    }
+
+    @Benchmark
+    public void resolvePolyphonyCached(Blackhole blackhole) {
+        for (String name : mNames) {
+            blackhole.consume(mCache.resolvePolyphony(name));
+        }
+    }
+
+    @Benchmark
+    public void resolveMessages(Blackhole blackhole) {
+        for (String message : mMessages) {
+            blackhole.consume(PinyinHelper.resolvePolyphony(message));
+        }
+    }
+
+    @Benchmark
+    public void resolveMessagesCached(Blackhole blackhole) {
+        for (String message : mMessages) {
+            blackhole.consume(mMessageCache.resolvePolyphony(message));
+        }
+    }
+
+    @Benchmark
+    public int searchExact() {
+        int count = 0;
+        for (String name : mNames) {
+            if (mExact.indexOf(mExactQuery, name) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int searchFuzzy() {
+        int count = 0;
+        for (String name : mNames) {
+            if (mFuzzy.indexOf(mFuzzyQuery, name) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int convertBatch() {
+        mBatch.convert(mNames);
+        return mBatch.getReadingCharCount();
+    }
+
+    @Benchmark
+    public void buildCollationKeys(Blackhole blackhole) {
+        for (String name : mNames) {
+            blackhole.consume(mCollator.getCollationKey(name));
+        }
+    }
+
+    @Benchmark
+    public String[] sortByCollationKey() {
+        String[] sorted = mNames.toArray(new String[mNames.size()]);
+        mCollator.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public SearchKeyIndex buildSearchKeys() {
+        return SearchKeyIndex.build(mNames);
+    }
+}
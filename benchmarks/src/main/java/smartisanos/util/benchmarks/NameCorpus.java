@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic corpora for the benchmarks.
+ *
+ * Names are drawn from the most common surnames, roughly weighted by how
+ * often they occur, including the polyphonic ones (曾, 单, 沈, 解 ...) and a
+ * few compound surnames, followed by one or two chars common in given
+ * names. Mixed text imitates chat logs: ASCII words, digits and CJK runs.
+ */
+final class NameCorpus {
+
+    private NameCorpus() {}
+
+    // Common surnames, most frequent first; earlier entries are drawn more often.
+    private static final String[] SURNAMES = {
+        "王", "李", "张", "刘", "陈", "杨", "黄", "赵", "吴", "周", "徐", "孙", "马", "朱", "胡",
+        "郭", "何", "高", "林", "罗", "郑", "梁", "谢", "宋", "唐", "许", "韩", "冯", "邓", "曹",
+        "彭", "曾", "肖", "田", "董", "袁", "潘", "于", "蒋", "蔡", "余", "杜", "叶", "程", "苏",
+        "魏", "吕", "丁", "任", "沈", "姚", "卢", "姜", "崔", "钟", "谭", "陆", "汪", "范", "金",
+        "石", "廖", "贾", "夏", "韦", "付", "方", "白", "邹", "孟", "熊", "秦", "邱", "江", "尹",
+        "薛", "闫", "段", "雷", "侯", "龙", "史", "陶", "黎", "贺", "顾", "毛", "郝", "龚", "邵",
+        "万", "钱", "严", "覃", "武", "戴", "莫", "孔", "向", "汤", "单", "解", "查", "仇", "区",
+        "盖", "翟", "朴", "乐", "欧阳", "司马", "上官", "诸葛", "长孙", "尉迟", "单于", "万俟",
+    };
+
+    private static final String GIVEN_NAME_CHARS =
+            "伟芳娜秀英敏静丽强磊军洋勇艳杰娟涛明超秀兰霞平刚桂英华玉萍红娥玲芬燕彬"
+            + "文辉力鹏飞建国志斌宇浩然子轩梓涵一诺欣怡雨泽俊晨思远佳琪嘉乐行长重朝藏"
+            + "和会传调觉率都少数省还单曾解朴查";
+
+    private static final String[] ASCII_WORDS = {
+        "ok", "hello", "meeting", "at", "the", "lol", "http://t.cn/abc", "see", "you", "PM",
+        "Tom", "Alice", "iPhone", "wifi", "2014", "10:30", "#tag", "@you", ":)", "thanks",
+    };
+
+    private static final String CHAT_CJK =
+            "我们今天晚上一起去银行还是去行政楼开会好的没问题重新调整一下时间长度"
+            + "大家都觉得这个地方不错朝阳区的会议室已经订好了率先到的人先占座";
+
+    /**
+     * Generate {@code count} names with the given seed.
+     */
+    static List<String> names(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> names = new ArrayList<String>(count);
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            name.setLength(0);
+            name.append(SURNAMES[skewed(random, SURNAMES.length)]);
+            int given = random.nextInt(10) < 7 ? 2 : 1;
+            for (int k = 0; k < given; k++) {
+                name.append(GIVEN_NAME_CHARS.charAt(random.nextInt(GIVEN_NAME_CHARS.length())));
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    /**
+     * Generate about {@code length} chars of chat-like text, {@code cjkPercent}
+     * of the runs being Chinese.
+     */
+    static String mixedText(int length, int cjkPercent, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(length + 32);
+        while (text.length() < length) {
+            if (random.nextInt(100) < cjkPercent) {
+                int start = random.nextInt(CHAT_CJK.length() - 8);
+                text.append(CHAT_CJK, start, start + 2 + random.nextInt(6));
+            } else {
+                text.append(ASCII_WORDS[random.nextInt(ASCII_WORDS.length)]).append(' ');
+            }
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    /**
+     * Generate {@code count} chat messages of {@code length} chars, drawn
+     * from {@code distinct} different ones with the first ones more likely,
+     * as when a chat list shows the same recent messages again and again.
+     * Every message is a new String, as if read from storage.
+     */
+    static List<String> messages(int count, int distinct, int length, long seed) {
+        String[] texts = new String[distinct];
+        for (int i = 0; i < distinct; i++) {
+            texts[i] = mixedText(length, 70, seed + i);
+        }
+        Random random = new Random(seed);
+        List<String> messages = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(new String(texts[skewed(random, distinct)].toCharArray()));
+        }
+        return messages;
+    }
+
+    /**
+     * Index in [0, size), with small indices more likely.
+     */
+    private static int skewed(Random random, int size) {
+        double x = random.nextDouble();
+        return (int) (x * x * size);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import smartisanos.util.PinyinHelper;
+import smartisanos.util.PinyinServer;
+
+/**
+ * Load test of {@link PinyinServer}: closed-loop clients, each posting
+ * batches of {@link NameCorpus} names over a kept-alive connection and
+ * waiting for the answer before the next batch. Reports throughput and
+ * latency percentiles of the measured period; a warm-up period before it
+ * is not counted.
+ *
+ * Without --url a server is started in this process on a free localhost
+ * port, with its default slot count unless --max-concurrent is given.
+ *
+ * Usage: java -cp benchmarks.jar smartisanos.util.benchmarks.ServerLoadTest
+ * [--url URL] [--clients N] [--batch N] [--warmup S] [--seconds S]
+ * [--max-concurrent N]
+ */
+public final class ServerLoadTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private ServerLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int clients = 64;
+        int batch = 100;
+        int warmupSeconds = 5;
+        int seconds = 10;
+        int maxConcurrent = Runtime.getRuntime().availableProcessors() * 2;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                usage();
+            } else if ("--url".equals(args[i])) {
+                url = args[i + 1];
+            } else if ("--clients".equals(args[i])) {
+                clients = Integer.parseInt(args[i + 1]);
+            } else if ("--batch".equals(args[i])) {
+                batch = Integer.parseInt(args[i + 1]);
+            } else if ("--warmup".equals(args[i])) {
+                warmupSeconds = Integer.parseInt(args[i + 1]);
+            } else if ("--seconds".equals(args[i])) {
+                seconds = Integer.parseInt(args[i + 1]);
+            } else if ("--max-concurrent".equals(args[i])) {
+                maxConcurrent = Integer.parseInt(args[i + 1]);
+            } else {
+                usage();
+            }
+        }
+
+        PinyinServer server = null;
+        if (url == null) {
+            System.setProperty(PinyinServer.NODELAY_PROPERTY, "true");
+            System.setProperty(PinyinServer.MAX_REQUEST_TIME_PROPERTY,
+                    String.valueOf(PinyinServer.MAX_REQUEST_SECONDS));
+            PinyinHelper.warmUp();
+            server = new PinyinServer(new InetSocketAddress("127.0.0.1", 0), maxConcurrent);
+            server.start();
+            url = "http://127.0.0.1:" + server.getAddress().getPort() + "/pinyin?type=name";
+            System.out.println("Server on " + url + ", "
+                    + (server.usesVirtualThreads() ? "virtual threads" : "thread pool")
+                    + ", " + maxConcurrent + " concurrent conversions");
+        }
+        // Each client cycles through its own batches.
+        List<String> names = NameCorpus.names(clients * batch * 4, 11);
+        long now = System.nanoTime();
+        long measureStart = now + warmupSeconds * 1000000000L;
+        long measureEnd = measureStart + seconds * 1000000000L;
+        Client[] workers = new Client[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            byte[][] bodies = new byte[4][];
+            for (int b = 0; b < bodies.length; b++) {
+                StringBuilder body = new StringBuilder();
+                int first = (c * bodies.length + b) * batch;
+                for (String name : names.subList(first, first + batch)) {
+                    body.append(name).append('\n');
+                }
+                bodies[b] = body.toString().getBytes(UTF_8);
+            }
+            workers[c] = new Client(new URL(url), bodies, measureStart, measureEnd, done);
+            workers[c].start();
+        }
+        done.await();
+        if (server != null) {
+            server.stop(0);
+        }
+
+        long[] latencies = new long[0];
+        int requests = 0;
+        int rejected = 0;
+        int failed = 0;
+        for (Client worker : workers) {
+            latencies = concat(latencies, worker.mLatencies, worker.mCount);
+            requests += worker.mCount;
+            rejected += worker.mRejected;
+            failed += worker.mFailed;
+        }
+        Arrays.sort(latencies);
+        System.out.println(String.format("%d clients, %d names per batch, %d s measured",
+                clients, batch, seconds));
+        System.out.println(String.format("%.0f requests/s, %.0f names/s, %d rejected (503),"
+                + " %d failed", requests / (double) seconds,
+                requests * (double) batch / seconds, rejected, failed));
+        if (requests > 0) {
+            System.out.println(String.format("latency ms: p50 %.2f, p90 %.2f, p99 %.2f,"
+                    + " p99.9 %.2f, max %.2f", percentile(latencies, 50),
+                    percentile(latencies, 90), percentile(latencies, 99),
+                    percentile(latencies, 99.9), latencies[latencies.length - 1] / 1e6));
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: ServerLoadTest [--url URL] [--clients N] [--batch N]"
+                + " [--warmup S] [--seconds S] [--max-concurrent N]");
+        System.exit(1);
+    }
+
+    private static long[] concat(long[] a, long[] b, int bCount) {
+        long[] result = Arrays.copyOf(a, a.length + bCount);
+        System.arraycopy(b, 0, result, a.length, bCount);
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double percent) {
+        int index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    /**
+     * One closed-loop client. Only requests that start in the measured
+     * period are counted.
+     */
+    private static final class Client extends Thread {
+        private final URL mUrl;
+        private final byte[][] mBodies;
+        private final long mMeasureStart;
+        private final long mMeasureEnd;
+        private final CountDownLatch mDone;
+        private final byte[] mBuffer = new byte[16384];
+
+        long[] mLatencies = new long[1024];
+        int mCount;
+        int mRejected;
+        int mFailed;
+
+        Client(URL url, byte[][] bodies, long measureStart, long measureEnd,
+                CountDownLatch done) {
+            mUrl = url;
+            mBodies = bodies;
+            mMeasureStart = measureStart;
+            mMeasureEnd = measureEnd;
+            mDone = done;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; ; i++) {
+                    long start = System.nanoTime();
+                    if (start >= mMeasureEnd) {
+                        break;
+                    }
+                    int status = post(mBodies[i % mBodies.length]);
+                    if (start < mMeasureStart) {
+                        continue;
+                    }
+                    if (status == 200) {
+                        if (mCount == mLatencies.length) {
+                            mLatencies = Arrays.copyOf(mLatencies, mCount * 2);
+                        }
+                        mLatencies[mCount++] = System.nanoTime() - start;
+                    } else if (status == 503) {
+                        mRejected++;
+                    } else {
+                        mFailed++;
+                    }
+                }
+            } finally {
+                mDone.countDown();
+            }
+        }
+
+        /**
+         * @return the status, or -1 if the request failed
+         */
+        private int post(byte[] body) {
+            HttpURLConnection connection = null;
+            try {
+                connection = (HttpURLConnection) mUrl.openConnection();
+                connection.setRequestMethod("POST");
+                connection.setDoOutput(true);
+                connection.setFixedLengthStreamingMode(body.length);
+                connection.setRequestProperty("Content-Type", "text/plain; charset=utf-8");
+                OutputStream out = connection.getOutputStream();
+                out.write(body);
+                out.close();
+                int status = connection.getResponseCode();
+                // Read to the end so the connection goes back to the keep-alive cache.
+                InputStream in = status < 400 ? connection.getInputStream()
+                        : connection.getErrorStream();
+                if (in != null) {
+                    while (in.read(mBuffer) >= 0) {
+                    }
+                    in.close();
+                }
+                return status;
+            } catch (IOException e) {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2014 The Smartisan Open Source Project
+ * This code has been modified.  Portions copyright (C) 2014, Smartisan Technology Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "LICENSE");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package smartisanos.util.tools;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.text.Normalizer;
+
+import com.ibm.icu.lang.UCharacter;
+import com.ibm.icu.lang.UScript;
+import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.util.VersionInfo;
+
+/**
+ * Writes the most common Mandarin reading of every Han char that ICU's
+ * Han-Latin transliterator knows, in the text form of data/pinyin.txt.
+ *
+ * Usage: HanPinyinExport &lt;output file&gt;
+ */
+public final class HanPinyinExport {
+
+    private HanPinyinExport(){};
+
+    // Combining tone marks of tones 1 to 4 after NFD.
+    private static final String TONE_MARKS = "\u0304\u0301\u030c\u0300";
+    private static final char DIAERESIS = '\u0308';
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: HanPinyinExport <output file>");
+            System.exit(1);
+        }
+        Transliterator transliterator = Transliterator.getInstance("Han-Latin");
+        StringBuilder out = new StringBuilder();
+        out.append("# Most common reading of each Han char, from the Han-Latin transliterator\n")
+                .append("# of ICU ").append(VersionInfo.ICU_VERSION)
+                .append(" (CLDR, based on Unihan kMandarin; Unicode license).\n")
+                .append("#\n")
+                .append("# One char per line, followed by its reading in the syllable form of\n")
+                .append("# polyphony.txt. Generated by tools/HanPinyinExport, do not edit. Readings\n")
+                .append("# of polyphonic chars are kept; polyphony.txt only adds the tone where\n")
+                .append("# there is none, and the chars this file lacks. Compile into\n")
+                .append("# res/smartisanos/util/pinyin.dat with:\n")
+                .append("#\n")
+                .append("#     java -cp target/classes smartisanos.util.PolyphonyDataGenerator --pinyin \\\n")
+                .append("#             data res/smartisanos/util/pinyin.dat\n");
+        int count = 0;
+        int skipped = 0;
+        for (int c = 0; c <= Character.MAX_CODE_POINT; c++) {
+            if (UScript.getScript(c) != UScript.HAN || !UCharacter.isDefined(c)
+                    || !Character.isIdeographic(c)) {
+                continue;
+            }
+            String han = new String(Character.toChars(c));
+            String latin = transliterator.transliterate(han);
+            if (latin.equals(han)) {
+                continue;
+            }
+            String reading = toSyllable(latin);
+            if (reading == null) {
+                System.err.println("Skipped " + han + " " + latin);
+                skipped++;
+                continue;
+            }
+            out.append(han).append(' ').append(reading).append('\n');
+            count++;
+        }
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(args[0]),
+                Charset.forName("UTF-8"));
+        try {
+            writer.write(out.toString());
+        } finally {
+            writer.close();
+        }
+        System.out.println("Wrote " + count + " chars to " + args[0] + ", skipped " + skipped);
+    }
+
+    /**
+     * Convert "lǚ" to "LV3".
+     *
+     * @return null if the reading is not a single plain syllable
+     */
+    static String toSyllable(String latin) {
+        String decomposed = Normalizer.normalize(latin.trim(), Normalizer.Form.NFD);
+        StringBuilder syllable = new StringBuilder();
+        int tone = 0;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int mark = TONE_MARKS.indexOf(c);
+            if (mark >= 0) {
+                tone = mark + 1;
+            } else if (c == DIAERESIS) {
+                if (syllable.length() == 0 || syllable.charAt(syllable.length() - 1) != 'U') {
+                    return null;
+                }
+                syllable.setCharAt(syllable.length() - 1, 'V');
+            } else if (c >= 'a' && c <= 'z') {
+                syllable.append((char) (c - 'a' + 'A'));
+            } else {
+                return null;
+            }
+        }
+        if (syllable.length() == 0) {
+            return null;
+        }
+        if (tone != 0) {
+            syllable.append(tone);
+        }
+        return syllable.toString();
+    }
+}